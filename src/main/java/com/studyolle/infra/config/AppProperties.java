@@ -11,4 +11,138 @@ public class AppProperties {
 
 	private String host;
 
+	private NotificationRetention notificationRetention = new NotificationRetention();
+
+	private Mail mail = new Mail();
+
+	private Outbox outbox = new Outbox();
+
+	private Async async = new Async();
+
+	private Image image = new Image();
+
+	private EnrollmentBatch enrollmentBatch = new EnrollmentBatch();
+
+	@Data
+	public static class NotificationRetention {
+
+		// 읽은 알림을 보관하는 기간
+		private int maxAgeDays = 30;
+
+		// 계정별로 남겨 두는 읽은 알림의 최대 개수
+		private int maxCheckedPerAccount = 300;
+
+		// 한 번의 delete 쿼리로 지우는 최대 row 수
+		private int batchSize = 1000;
+
+	}
+
+	@Data
+	public static class Mail {
+
+		// 발송 대기 큐의 최대 크기. 가득 차면 메일을 버리고 에러 로그를 남긴다.
+		private int queueCapacity = 10_000;
+
+		// 큐를 비우는 발송 스레드 수
+		private int workers = 2;
+
+		// SMTP 연결 하나로 한 번에 보내는 최대 메일 수
+		private int batchSize = 50;
+
+		// 초당 최대 발송 수
+		private double maxSendsPerSecond = 10;
+
+		// 최초 발송을 포함한 최대 시도 횟수
+		private int maxAttempts = 3;
+
+		// 재시도 대기 시간. 시도할 때마다 두 배로 늘어난다.
+		private long initialBackoffMillis = 1000;
+
+		// 종료할 때 큐에 남은 메일을 보내며 기다리는 최대 시간. 지나면 남은 메일은 dead letter로 남긴다.
+		private int shutdownGraceSeconds = 20;
+
+	}
+
+	@Data
+	public static class Outbox {
+
+		// 처리하지 않은 이벤트를 조회하는 주기 (OutboxEventDispatcher의 @Scheduled에서 사용)
+		private long pollIntervalMillis = 1000;
+
+		// 한 번에 잠그고 처리하는 이벤트 수
+		private int batchSize = 100;
+
+		// 리스너가 실패했을 때 최대 시도 횟수
+		private int maxAttempts = 5;
+
+		// 첫 재시도까지 기다리는 시간. 실패할 때마다 두 배로 늘린다.
+		private long initialBackoffMillis = 10_000;
+
+		// 재시도 간격의 최대값
+		private long maxBackoffMillis = 600_000;
+
+	}
+
+	@Data
+	public static class Async {
+
+		// 0 이하면 CPU 코어 수
+		private int corePoolSize = 0;
+
+		// 0 이하면 CPU 코어 수의 두 배
+		private int maxPoolSize = 0;
+
+		private int queueCapacity = 50;
+
+		private int keepAliveSeconds = 60;
+
+		// 큐와 스레드가 모두 찼을 때의 처리 방법
+		private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+		// BLOCK 정책에서 큐에 자리가 날 때까지 기다리는 최대 시간
+		private long blockTimeoutMillis = 1000;
+
+		// 종료할 때 남은 작업을 기다리는 최대 시간
+		private int awaitTerminationSeconds = 30;
+
+	}
+
+	@Data
+	public static class Image {
+
+		// 크기별 이미지를 만드는 스레드 수
+		private int workers = 2;
+
+		// 대기 작업 수. 가득 차면 크기별 이미지를 만들지 않고 원본을 내려준다.
+		private int queueCapacity = 100;
+
+		// 가로 x 세로 픽셀 수 한도. 넘으면 업로드를 거절하고 크기별 이미지를 만들지 않는다.
+		private long maxPixels = 25_000_000;
+
+	}
+
+	@Data
+	public static class EnrollmentBatch {
+
+		// 한 트랜잭션에서 처리하는 최대 참가 신청 수
+		private int maxBatchSize = 100;
+
+		// 요청 스레드가 자기 참가 신청이 처리되기를 기다리는 최대 시간
+		private long waitTimeoutMillis = 5000;
+
+	}
+
+	public enum RejectionPolicy {
+
+		// 작업을 제출한 스레드에서 바로 실행한다.
+		CALLER_RUNS,
+
+		// 큐에 자리가 날 때까지 기다리고, 시간 안에 못 넣으면 TaskRejectedException을 던진다.
+		BLOCK,
+
+		// 바로 TaskRejectedException을 던진다.
+		ABORT
+
+	}
+
 }
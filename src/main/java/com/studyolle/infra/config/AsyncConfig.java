@@ -1,29 +1,143 @@
 package com.studyolle.infra.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.Collections;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
 
+	private static final String EXECUTOR_NAME = "async";
+
+	public static final String IMAGE_EXECUTOR = "imageExecutor";
+
+	private final AppProperties appProperties;
+	private final MeterRegistry meterRegistry;
+
 	@Override
 	public Executor getAsyncExecutor() {
-		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		AppProperties.Async properties = appProperties.getAsync();
 		int processors = Runtime.getRuntime().availableProcessors();
-		log.info("processors count {}", processors);
-		executor.setCorePoolSize(processors);
-		executor.setMaxPoolSize(processors * 2);
-		executor.setQueueCapacity(50);
-		executor.setKeepAliveSeconds(60);
+		int corePoolSize = properties.getCorePoolSize() > 0 ? properties.getCorePoolSize() : processors;
+		int maxPoolSize = Math.max(corePoolSize, properties.getMaxPoolSize() > 0 ? properties.getMaxPoolSize() : processors * 2);
+		log.info("async executor core={}, max={}, queue={}, rejection={}",
+				corePoolSize, maxPoolSize, properties.getQueueCapacity(), properties.getRejectionPolicy());
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(corePoolSize);
+		executor.setMaxPoolSize(maxPoolSize);
+		executor.setQueueCapacity(properties.getQueueCapacity());
+		executor.setKeepAliveSeconds(properties.getKeepAliveSeconds());
 		executor.setThreadNamePrefix("AsyncExecutor-");
+		executor.setTaskDecorator(timedTaskDecorator());
+		executor.setRejectedExecutionHandler(countingRejectedExecutionHandler(properties));
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(properties.getAwaitTerminationSeconds());
 		executor.initialize();
+
+		// 활성 스레드 수, 큐 길이, 완료한 작업 수 등을 executor.* 메트릭으로 노출한다.
+		new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), EXECUTOR_NAME, Collections.emptyList())
+				.bindTo(meterRegistry);
+		return executor;
+	}
+
+	// 업로드 이미지의 크기별 변환 전용. 큐가 가득 차면 요청 스레드에서 실행하지 않고 거절한다. (원본을 내려준다)
+	@Bean(IMAGE_EXECUTOR)
+	public ThreadPoolTaskExecutor imageExecutor() {
+		AppProperties.Image properties = appProperties.getImage();
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(properties.getWorkers());
+		executor.setMaxPoolSize(properties.getWorkers());
+		executor.setQueueCapacity(properties.getQueueCapacity());
+		executor.setThreadNamePrefix("ImageResizer-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
 		return executor;
 	}
-}
\ No newline at end of file
+
+	@Override
+	public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+		Counter failed = Counter.builder("async.task.failed")
+				.tag("name", EXECUTOR_NAME)
+				.register(meterRegistry);
+		return (ex, method, params) -> {
+			failed.increment();
+			log.error("async task {}.{} failed", method.getDeclaringClass().getSimpleName(), method.getName(), ex);
+		};
+	}
+
+	// 큐에서 기다린 시간과 실행 시간을 나눠서 기록한다. 히스토그램으로 백분위를 볼 수 있다.
+	private TaskDecorator timedTaskDecorator() {
+		Timer waitTimer = Timer.builder("async.task.wait")
+				.tag("name", EXECUTOR_NAME)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+		Timer executionTimer = Timer.builder("async.task.execution")
+				.tag("name", EXECUTOR_NAME)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+		return runnable -> {
+			long submittedAt = System.nanoTime();
+			return () -> {
+				waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+				executionTimer.record(runnable);
+			};
+		};
+	}
+
+	private RejectedExecutionHandler countingRejectedExecutionHandler(AppProperties.Async properties) {
+		Counter rejected = Counter.builder("async.task.rejected")
+				.tag("name", EXECUTOR_NAME)
+				.tag("policy", properties.getRejectionPolicy().name())
+				.register(meterRegistry);
+		RejectedExecutionHandler policy = rejectedExecutionHandler(properties);
+		return (runnable, executor) -> {
+			rejected.increment();
+			policy.rejectedExecution(runnable, executor);
+		};
+	}
+
+	private RejectedExecutionHandler rejectedExecutionHandler(AppProperties.Async properties) {
+		switch (properties.getRejectionPolicy()) {
+			case BLOCK:
+				long timeout = properties.getBlockTimeoutMillis();
+				return (runnable, executor) -> {
+					if (executor.isShutdown()) {
+						throw new RejectedExecutionException("async executor has been shut down");
+					}
+					try {
+						if (!executor.getQueue().offer(runnable, timeout, TimeUnit.MILLISECONDS)) {
+							throw new RejectedExecutionException("async executor queue is still full after " + timeout + "ms");
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new RejectedExecutionException("interrupted while waiting for the async executor queue", e);
+					}
+				};
+			case ABORT:
+				return new ThreadPoolExecutor.AbortPolicy();
+			case CALLER_RUNS:
+			default:
+				return new ThreadPoolExecutor.CallerRunsPolicy();
+		}
+	}
+}
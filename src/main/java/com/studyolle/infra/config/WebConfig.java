@@ -1,9 +1,11 @@
 package com.studyolle.infra.config;
 
+import com.studyolle.modules.account.CurrentAccountArgumentResolver;
 import com.studyolle.modules.notification.NotificationInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.StaticResourceLocation;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -16,6 +18,12 @@ import java.util.stream.Collectors;
 public class WebConfig implements WebMvcConfigurer {
 
 	private final NotificationInterceptor notificationInterceptor;
+	private final CurrentAccountArgumentResolver currentAccountArgumentResolver;
+
+	@Override
+	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+		resolvers.add(currentAccountArgumentResolver);
+	}
 
 	@Override
 	public void addInterceptors(InterceptorRegistry registry) {
@@ -0,0 +1,84 @@
+package com.studyolle.infra.image;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.WebRequest;
+
+@Controller
+@RequiredArgsConstructor
+public class ImageController {
+
+	// 해시가 같으면 내용도 같으므로 브라우저와 프록시가 1년 동안 다시 묻지 않게 한다.
+	private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+	// /images/** 는 시큐리티 필터를 거치지 않으므로 nosniff 헤더를 여기서 붙인다.
+	private static final String X_CONTENT_TYPE_OPTIONS = "X-Content-Type-Options";
+	private static final String NOSNIFF = "nosniff";
+
+	private final ImageService imageService;
+
+	// Resource를 body로 반환하면 Range 요청은 스프링이 206 Partial Content로 처리한다.
+	@GetMapping(StoredImage.URL_PREFIX + "{hash}")
+	public ResponseEntity<Resource> image(@PathVariable String hash, WebRequest request) {
+		String etag = "\"" + hash + "\"";
+		if (request.checkNotModified(etag)) {
+			return null; // 304. 이미지를 읽지 않는다.
+		}
+
+		return imageService.getImage(hash)
+				.filter(image -> isAllowed(image.getContentType()))
+				.map(image -> ResponseEntity.ok()
+						.contentType(MediaType.valueOf(image.getContentType()))
+						.header(X_CONTENT_TYPE_OPTIONS, NOSNIFF)
+						.eTag(etag)
+						.header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+						.<Resource>body(new ByteArrayResource(image.getBytes())))
+				.orElseGet(() -> ResponseEntity.notFound().build());
+	}
+
+	// 아직 만들지 않은 크기(업로드 직후, 또는 작업 큐가 가득 찼던 경우)는 원본을 캐시하지 않도록 내려준다.
+	@GetMapping(StoredImage.URL_PREFIX + "{hash}/{variant}")
+	public ResponseEntity<Resource> imageVariant(@PathVariable String hash, @PathVariable String variant, WebRequest request) {
+		ImageVariant imageVariant;
+		try {
+			imageVariant = ImageVariant.fromPathName(variant);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.notFound().build();
+		}
+
+		String etag = "\"" + hash + "-" + imageVariant.getPathName() + "\"";
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+
+		return imageService.getVariant(hash, imageVariant)
+				.filter(image -> isAllowed(image.getContentType()))
+				.map(image -> ResponseEntity.ok()
+						.contentType(MediaType.valueOf(image.getContentType()))
+						.header(X_CONTENT_TYPE_OPTIONS, NOSNIFF)
+						.eTag(etag)
+						.header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+						.<Resource>body(new ByteArrayResource(image.getBytes())))
+				.orElseGet(() -> imageService.getImage(hash)
+						.filter(image -> isAllowed(image.getContentType()))
+						.map(image -> ResponseEntity.ok()
+								.contentType(MediaType.valueOf(image.getContentType()))
+								.header(X_CONTENT_TYPE_OPTIONS, NOSNIFF)
+								.cacheControl(CacheControl.noCache())
+								.<Resource>body(new ByteArrayResource(image.getBytes())))
+						.orElseGet(() -> ResponseEntity.notFound().build()));
+	}
+
+	// 허용 목록을 만들기 전에 저장된 형식(예: svg)은 내려주지 않는다.
+	private boolean isAllowed(String contentType) {
+		return ImageType.fromContentType(contentType).isPresent();
+	}
+}
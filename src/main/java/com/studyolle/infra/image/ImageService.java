@@ -0,0 +1,125 @@
+package com.studyolle.infra.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ImageService {
+
+	private static final String DATA_URL_PREFIX = "data:";
+	private static final String BASE64_MARKER = ";base64,";
+	private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+	private final StoredImageRepository storedImageRepository;
+	private final StoredImageVariantRepository storedImageVariantRepository;
+	private final ImageVariantGenerator imageVariantGenerator;
+
+	// 화면에서 넘어온 이미지 값을 저장하고 해시를 반환한다.
+	// 비어 있으면 null, 이미 저장된 이미지의 URL이면 그 해시, data URL이면 저장한 뒤의 해시를 반환한다.
+	public String store(String image) {
+		if (!StringUtils.hasText(image)) {
+			return null;
+		}
+
+		if (image.startsWith(StoredImage.URL_PREFIX)) {
+			String path = image.substring(StoredImage.URL_PREFIX.length());
+			int variantSeparator = path.indexOf('/');
+			String hash = variantSeparator < 0 ? path : path.substring(0, variantSeparator);
+			if (!HASH_PATTERN.matcher(hash).matches() || !storedImageRepository.existsById(hash)) {
+				throw new IllegalArgumentException("저장되어 있지 않은 이미지입니다.");
+			}
+			return hash;
+		}
+
+		int marker = image.indexOf(BASE64_MARKER);
+		if (!image.startsWith(DATA_URL_PREFIX) || marker < 0) {
+			throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+		}
+
+		// data URL에 적힌 형식은 믿지 않고 내용으로 판별한 형식을 저장한다.
+		byte[] bytes = decodeBase64(image.substring(marker + BASE64_MARKER.length()));
+		ImageType imageType = ImageType.detect(bytes)
+				.orElseThrow(() -> new IllegalArgumentException("지원하지 않는 이미지 형식입니다."));
+		if (imageVariantGenerator.exceedsMaxPixels(bytes)) {
+			throw new IllegalArgumentException("이미지가 너무 큽니다.");
+		}
+		String hash = sha256(bytes);
+		if (!storedImageRepository.existsById(hash)) {
+			StoredImage storedImage = new StoredImage();
+			storedImage.setHash(hash);
+			storedImage.setContentType(imageType.getContentType());
+			storedImage.setBytes(bytes);
+			storedImage.setCreatedDateTime(LocalDateTime.now());
+			storedImageRepository.save(storedImage);
+			generateVariantsAfterCommit(hash, bytes);
+		}
+		return hash;
+	}
+
+	@Transactional(readOnly = true)
+	public Optional<StoredImage> getImage(String hash) {
+		return storedImageRepository.findById(hash);
+	}
+
+	@Transactional(readOnly = true)
+	public Optional<StoredImageVariant> getVariant(String hash, ImageVariant variant) {
+		return storedImageVariantRepository.findByHashAndVariant(hash, variant);
+	}
+
+	// 원본이 커밋된 뒤에 만든다. 롤백되면 만들지 않는다.
+	private void generateVariantsAfterCommit(String hash, byte[] bytes) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			generateVariants(hash, bytes);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				generateVariants(hash, bytes);
+			}
+		});
+	}
+
+	private void generateVariants(String hash, byte[] bytes) {
+		try {
+			imageVariantGenerator.generateAsync(hash, bytes);
+		} catch (TaskRejectedException e) {
+			log.warn("image resize queue is full, serving the original image for {}", hash);
+		}
+	}
+
+	private byte[] decodeBase64(String encoded) {
+		try {
+			return Base64.getDecoder().decode(encoded.getBytes(StandardCharsets.US_ASCII));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("이미지를 읽을 수 없습니다.", e);
+		}
+	}
+
+	private String sha256(byte[] bytes) {
+		try {
+			return String.format("%064x", new BigInteger(1, MessageDigest.getInstance("SHA-256").digest(bytes)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
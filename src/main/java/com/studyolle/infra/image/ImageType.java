@@ -0,0 +1,65 @@
+package com.studyolle.infra.image;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+// 업로드를 허용하는 이미지 형식. 요청이 보낸 Content-Type이 아니라 내용의 시작 바이트(magic number)로 판별한다.
+// svg처럼 스크립트를 담을 수 있는 형식은 받지 않는다.
+public enum ImageType {
+
+	PNG("image/png"),
+	JPEG("image/jpeg"),
+	GIF("image/gif"),
+	WEBP("image/webp");
+
+	private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+	private static final byte[] JPEG_SIGNATURE = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+	private static final byte[] GIF87A_SIGNATURE = "GIF87a".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] GIF89A_SIGNATURE = "GIF89a".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] RIFF_SIGNATURE = "RIFF".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] WEBP_SIGNATURE = "WEBP".getBytes(StandardCharsets.US_ASCII);
+
+	private final String contentType;
+
+	ImageType(String contentType) {
+		this.contentType = contentType;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public static Optional<ImageType> detect(byte[] bytes) {
+		if (startsWith(bytes, 0, PNG_SIGNATURE)) {
+			return Optional.of(PNG);
+		}
+		if (startsWith(bytes, 0, JPEG_SIGNATURE)) {
+			return Optional.of(JPEG);
+		}
+		if (startsWith(bytes, 0, GIF87A_SIGNATURE) || startsWith(bytes, 0, GIF89A_SIGNATURE)) {
+			return Optional.of(GIF);
+		}
+		if (startsWith(bytes, 0, RIFF_SIGNATURE) && startsWith(bytes, 8, WEBP_SIGNATURE)) {
+			return Optional.of(WEBP);
+		}
+		return Optional.empty();
+	}
+
+	// 이미 저장된 값도 허용 목록에 있는 형식만 그대로 내려준다.
+	public static Optional<ImageType> fromContentType(String contentType) {
+		return Arrays.stream(values()).filter(type -> type.contentType.equals(contentType)).findFirst();
+	}
+
+	private static boolean startsWith(byte[] bytes, int offset, byte[] signature) {
+		if (bytes.length < offset + signature.length) {
+			return false;
+		}
+		for (int i = 0; i < signature.length; i++) {
+			if (bytes[offset + i] != signature[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
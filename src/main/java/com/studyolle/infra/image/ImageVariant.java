@@ -0,0 +1,37 @@
+package com.studyolle.infra.image;
+
+import java.util.Locale;
+
+// 업로드할 때 미리 만들어 두는 크기별 이미지. 원본 비율을 유지하고 원본보다 크게 늘리지 않는다.
+public enum ImageVariant {
+
+	THUMBNAIL(128, 128), // 아바타, 구성원 목록
+
+	CARD(400, 400), // 프로필 화면, 카드
+
+	FULL(1200, 1200); // 스터디 배너
+
+	private final int maxWidth;
+	private final int maxHeight;
+
+	ImageVariant(int maxWidth, int maxHeight) {
+		this.maxWidth = maxWidth;
+		this.maxHeight = maxHeight;
+	}
+
+	public int getMaxWidth() {
+		return maxWidth;
+	}
+
+	public int getMaxHeight() {
+		return maxHeight;
+	}
+
+	public String getPathName() {
+		return name().toLowerCase(Locale.ROOT);
+	}
+
+	public static ImageVariant fromPathName(String pathName) {
+		return valueOf(pathName.toUpperCase(Locale.ROOT));
+	}
+}
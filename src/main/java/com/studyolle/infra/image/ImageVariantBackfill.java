@@ -0,0 +1,49 @@
+package com.studyolle.infra.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+
+// 크기별 이미지를 만들기 전에 올라온 원본(또는 만들다 실패한 원본)의 크기별 이미지를 시작할 때 만든다.
+// 만드는 동안에는 원본을 내려주므로 기다리지 않고 이미지 변환 풀에 넘기기만 한다. 풀이 가득 차면 멈추고 나머지는 다음에 시작할 때 만든다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantBackfill {
+
+	private static final int BATCH_SIZE = 100;
+
+	private final StoredImageRepository storedImageRepository;
+	private final ImageVariantGenerator imageVariantGenerator;
+
+	@PostConstruct
+	public void backfill() {
+		int submitted = 0;
+		String lastHash = "";
+		List<String> hashes;
+		while (!(hashes = storedImageRepository.findHashesWithoutVariantsAfter(lastHash, PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+			for (String hash : hashes) {
+				StoredImage image = storedImageRepository.findById(hash).orElse(null);
+				if (image == null) {
+					continue;
+				}
+				try {
+					imageVariantGenerator.generateAsync(hash, image.getBytes());
+					submitted++;
+				} catch (TaskRejectedException e) {
+					log.warn("image resize queue is full, stopped image variant backfill at {}", hash);
+					return;
+				}
+			}
+			lastHash = hashes.get(hashes.size() - 1);
+		}
+		if (submitted > 0) {
+			log.info("submitted {} stored images for variant generation", submitted);
+		}
+	}
+}
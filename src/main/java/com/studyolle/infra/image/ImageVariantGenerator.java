@@ -0,0 +1,143 @@
+package com.studyolle.infra.image;
+
+import com.studyolle.infra.config.AppProperties;
+import com.studyolle.infra.config.AsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+// 업로드한 이미지를 한 번만 디코딩해서 ImageVariant 크기별로 줄여 저장한다.
+// 요청 스레드를 붙잡지 않도록 크기가 정해진 전용 스레드 풀(app.image.*)에서 실행한다. 만들기 전까지는 원본을 내려준다.
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+	private final StoredImageVariantRepository variantRepository;
+	private final long maxPixels;
+
+	public ImageVariantGenerator(StoredImageVariantRepository variantRepository, AppProperties appProperties) {
+		this.variantRepository = variantRepository;
+		this.maxPixels = appProperties.getImage().getMaxPixels();
+	}
+
+	// 풀이 가득 차면 TaskRejectedException을 던진다.
+	@Async(AsyncConfig.IMAGE_EXECUTOR)
+	public void generateAsync(String hash, byte[] bytes) {
+		generate(hash, bytes);
+	}
+
+	// 헤더에 적힌 가로 x 세로가 app.image.max-pixels를 넘으면 true. 읽을 수 없는 형식이면 false.
+	public boolean exceedsMaxPixels(byte[] bytes) {
+		try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+			ImageReader reader = reader(input);
+			if (reader == null) {
+				return false;
+			}
+			try {
+				return exceedsMaxPixels(reader);
+			} finally {
+				reader.dispose();
+			}
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	void generate(String hash, byte[] bytes) {
+		try {
+			BufferedImage source = decode(hash, bytes);
+			if (source == null) {
+				return;
+			}
+
+			for (ImageVariant variant : ImageVariant.values()) {
+				if (!variantRepository.existsByHashAndVariant(hash, variant)) {
+					variantRepository.save(resize(hash, source, variant));
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			log.error("failed to create image variants for {}", hash, e);
+		}
+	}
+
+	// 작은 파일이 큰 비트맵으로 풀리는 이미지(decompression bomb)를 막기 위해 헤더의 크기를 먼저 보고 디코딩한다.
+	private BufferedImage decode(String hash, byte[] bytes) throws IOException {
+		try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+			ImageReader reader = reader(input);
+			if (reader == null) {
+				log.warn("cannot decode image {}", hash);
+				return null;
+			}
+			try {
+				if (exceedsMaxPixels(reader)) {
+					log.warn("image {} is {}x{}, larger than {} pixels", hash, reader.getWidth(0), reader.getHeight(0), maxPixels);
+					return null;
+				}
+				return reader.read(0);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	private ImageReader reader(ImageInputStream input) {
+		if (input == null) {
+			return null;
+		}
+		Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+		if (!readers.hasNext()) {
+			return null;
+		}
+		ImageReader reader = readers.next();
+		reader.setInput(input, true, true);
+		return reader;
+	}
+
+	private boolean exceedsMaxPixels(ImageReader reader) throws IOException {
+		return (long) reader.getWidth(0) * reader.getHeight(0) > maxPixels;
+	}
+
+	private StoredImageVariant resize(String hash, BufferedImage source, ImageVariant variant) throws IOException {
+		double scale = Math.min(1.0, Math.min(
+				(double) variant.getMaxWidth() / source.getWidth(),
+				(double) variant.getMaxHeight() / source.getHeight()));
+		int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+		int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+		// 투명도가 있으면 png, 없으면 더 작은 jpg로 저장한다.
+		boolean alpha = source.getColorModel().hasAlpha();
+		BufferedImage resized = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = resized.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(source, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+
+		String format = alpha ? "png" : "jpeg";
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(resized, format, out);
+
+		StoredImageVariant storedVariant = new StoredImageVariant();
+		storedVariant.setHash(hash);
+		storedVariant.setVariant(variant);
+		storedVariant.setContentType("image/" + format);
+		storedVariant.setBytes(out.toByteArray());
+		storedVariant.setWidth(width);
+		storedVariant.setHeight(height);
+		return storedVariant;
+	}
+}
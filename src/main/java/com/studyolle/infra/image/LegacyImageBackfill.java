@@ -0,0 +1,67 @@
+package com.studyolle.infra.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.Map;
+
+// 이미지 저장소를 만들기 전에는 프로필/배너 이미지를 account.profile_image, study.image 컬럼에 data URL로 저장했다.
+// ddl-auto=update는 이 컬럼을 지우지 않으므로, 남아 있는 값을 StoredImage로 옮기고 해시 컬럼을 채운 뒤 비운다.
+// 요청을 받기 전에 끝나도록 애플리케이션을 시작할 때 실행한다. 옮길 값이 없으면 컬럼 확인 쿼리 하나로 끝난다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyImageBackfill {
+
+	private static final int BATCH_SIZE = 100;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ImageService imageService;
+
+	@PostConstruct
+	public void backfill() {
+		backfill("account", "profile_image", "profile_image_hash");
+		backfill("study", "image", "image_hash");
+	}
+
+	void backfill(String table, String legacyColumn, String hashColumn) {
+		if (!columnExists(table, legacyColumn)) {
+			return;
+		}
+
+		// @Lob String 값은 문자열 그대로이거나, 드라이버에 따라 large object의 oid로 저장되어 있다.
+		String select = "select id, case when " + legacyColumn + " ~ '^[0-9]+$' " +
+				"then convert_from(lo_get(cast(" + legacyColumn + " as oid)), 'UTF8') else " + legacyColumn + " end as image " +
+				"from " + table + " where " + legacyColumn + " is not null order by id limit " + BATCH_SIZE;
+		String update = "update " + table + " set " + hashColumn + " = coalesce(" + hashColumn + ", ?), " + legacyColumn + " = null where id = ?";
+
+		int migrated = 0;
+		int skipped = 0;
+		List<Map<String, Object>> rows;
+		while (!(rows = jdbcTemplate.queryForList(select)).isEmpty()) {
+			for (Map<String, Object> row : rows) {
+				String hash = null;
+				try {
+					hash = imageService.store((String) row.get("image"));
+					migrated++;
+				} catch (IllegalArgumentException e) {
+					// 허용하지 않는 형식(svg 등)이나 깨진 값은 옮기지 않는다.
+					log.warn("skip legacy image of {} {}: {}", table, row.get("id"), e.getMessage());
+					skipped++;
+				}
+				jdbcTemplate.update(update, hash, row.get("id"));
+			}
+		}
+		log.info("migrated {} legacy images of {} ({} skipped)", migrated, table, skipped);
+	}
+
+	private boolean columnExists(String table, String column) {
+		Integer count = jdbcTemplate.queryForObject("select count(*) from information_schema.columns " +
+				"where table_schema = current_schema() and table_name = ? and column_name = ?", Integer.class, table, column);
+		return count != null && count > 0;
+	}
+}
@@ -0,0 +1,38 @@
+package com.studyolle.infra.image;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+// 업로드한 이미지 원본. 내용의 SHA-256 해시를 키로 쓰므로 같은 이미지는 한 번만 저장되고, 저장된 내용은 바뀌지 않는다.
+@Entity
+@Getter @Setter @EqualsAndHashCode(of = "hash")
+public class StoredImage {
+
+	public static final String URL_PREFIX = "/images/stored/";
+
+	@Id
+	@Column(length = 64)
+	private String hash;
+
+	@Column(nullable = false)
+	private String contentType;
+
+	@Column(nullable = false, columnDefinition = "bytea")
+	private byte[] bytes;
+
+	private LocalDateTime createdDateTime;
+
+	public static String url(String hash) {
+		return URL_PREFIX + hash;
+	}
+
+	public static String url(String hash, ImageVariant variant) {
+		return URL_PREFIX + hash + "/" + variant.getPathName();
+	}
+}
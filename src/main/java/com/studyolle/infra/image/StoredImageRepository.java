@@ -0,0 +1,19 @@
+package com.studyolle.infra.image;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface StoredImageRepository extends JpaRepository<StoredImage, String> {
+
+	// 크기별 이미지가 하나도 없는 원본의 해시. lastHash 다음부터 해시 순서로 읽는다.
+	@Query("select i.hash from StoredImage i where i.hash > :lastHash " +
+			"and not exists (select v.id from StoredImageVariant v where v.hash = i.hash) order by i.hash")
+	List<String> findHashesWithoutVariantsAfter(@Param("lastHash") String lastHash, Pageable pageable);
+
+}
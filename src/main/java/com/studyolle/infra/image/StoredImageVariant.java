@@ -0,0 +1,35 @@
+package com.studyolle.infra.image;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.*;
+
+@Entity
+@Getter @Setter @EqualsAndHashCode(of = "id")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_stored_image_variant_hash_variant", columnNames = {"hash", "variant"}))
+public class StoredImageVariant {
+
+	@Id @GeneratedValue
+	private Long id;
+
+	// 원본 StoredImage의 해시
+	@Column(nullable = false, length = 64)
+	private String hash;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private ImageVariant variant;
+
+	@Column(nullable = false)
+	private String contentType;
+
+	@Column(nullable = false, columnDefinition = "bytea")
+	private byte[] bytes;
+
+	private int width;
+
+	private int height;
+
+}
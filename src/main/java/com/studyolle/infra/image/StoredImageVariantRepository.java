@@ -0,0 +1,15 @@
+package com.studyolle.infra.image;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public interface StoredImageVariantRepository extends JpaRepository<StoredImageVariant, Long> {
+
+	Optional<StoredImageVariant> findByHashAndVariant(String hash, ImageVariant variant);
+
+	boolean existsByHashAndVariant(String hash, ImageVariant variant);
+
+}
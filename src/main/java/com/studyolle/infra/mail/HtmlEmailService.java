@@ -1,36 +1,211 @@
 package com.studyolle.infra.mail;
 
+import com.studyolle.infra.config.AppProperties;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
 
 @Slf4j
 @Profile("dev")
 @Component
-@RequiredArgsConstructor
 public class HtmlEmailService implements EmailService {
 
+	// 발송 스레드가 종료 중인지 확인하는 간격
+	private static final long POLL_MILLIS = 500;
+
 	private final JavaMailSender javaMailSender;
+	private final AppProperties.Mail properties;
+	private final BlockingQueue<PendingEmail> queue;
+	private final SendRateLimiter rateLimiter;
+	private final ExecutorService workers;
+	private final ScheduledExecutorService retryScheduler;
+	private volatile boolean stopping;
+	// 재시도를 기다리는 메일. 종료 시 shutdownNow()가 버리는 예약 작업을 dead letter로 남기기 위해 따로 들고 있는다.
+	private final Set<PendingEmail> scheduledRetries = ConcurrentHashMap.newKeySet();
+
+	public HtmlEmailService(JavaMailSender javaMailSender, AppProperties appProperties) {
+		this.javaMailSender = javaMailSender;
+		this.properties = appProperties.getMail();
+		this.queue = new LinkedBlockingQueue<>(properties.getQueueCapacity());
+		this.rateLimiter = new SendRateLimiter(properties.getMaxSendsPerSecond());
+		this.workers = Executors.newFixedThreadPool(properties.getWorkers(), new CustomizableThreadFactory("MailSender-"));
+		this.retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("MailRetry-"));
+	}
+
+	@PostConstruct
+	public void start() {
+		for (int i = 0; i < properties.getWorkers(); i++) {
+			workers.execute(this::drainQueue);
+		}
+	}
 
+	// 새 메일은 받지 않고, 큐에 남은 메일은 shutdown-grace-seconds 동안 보낸 뒤 남은 것만 dead letter로 남긴다.
+	@PreDestroy
+	public void stop() {
+		retryScheduler.shutdownNow();
+		scheduledRetries.forEach(email -> offer(email.nextAttempt())); // 재시도를 기다리던 메일도 종료 전에 한 번 더 보낸다.
+		scheduledRetries.clear();
+		stopping = true;
+
+		workers.shutdown();
+		try {
+			if (!workers.awaitTermination(properties.getShutdownGraceSeconds(), TimeUnit.SECONDS)) {
+				workers.shutdownNow(); // 보내던 배치는 발송 스레드가 dead letter로 남긴다.
+				workers.awaitTermination(1, TimeUnit.SECONDS);
+			}
+		} catch (InterruptedException e) {
+			workers.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+
+		PendingEmail email;
+		while ((email = queue.poll()) != null) {
+			deadLetter(email, "application shutdown");
+		}
+	}
+
+	// 요청 스레드는 큐에 넣기만 하고 바로 돌아간다. 실제 발송은 발송 스레드가 한다.
 	@Override
 	public void sendEmail(EmailMessage emailMessage) {
+		enqueue(new PendingEmail(emailMessage, 1));
+	}
+
+	private void enqueue(PendingEmail email) {
+		if (stopping) {
+			deadLetter(email, "application shutdown");
+			return;
+		}
+		offer(email);
+	}
+
+	private void offer(PendingEmail email) {
+		if (!queue.offer(email)) {
+			deadLetter(email, "outbound queue is full");
+		}
+	}
+
+	private void drainQueue() {
+		List<PendingEmail> batch = new ArrayList<>(properties.getBatchSize());
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				PendingEmail first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					if (stopping) {
+						return; // 종료 중이고 큐가 비었다.
+					}
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, properties.getBatchSize() - 1);
+				rateLimiter.acquire(batch.size());
+				send(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				batch.forEach(email -> deadLetter(email, "application shutdown"));
+			} catch (RuntimeException e) {
+				log.error("unexpected error while sending emails", e);
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	// 배치에 담긴 메일을 SMTP 연결 하나로 보낸다. (JavaMailSender.send(MimeMessage...)는 연결을 한 번만 맺는다)
+	private void send(List<PendingEmail> batch) {
+		Map<MimeMessage, PendingEmail> messages = new LinkedHashMap<>();
+		for (PendingEmail email : batch) {
+			try {
+				messages.put(toMimeMessage(email.getMessage()), email);
+			} catch (MessagingException e) {
+				deadLetter(email, e);
+			}
+		}
+
+		if (messages.isEmpty()) {
+			return;
+		}
+
+		try {
+			javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+			log.info("sent {} emails", messages.size());
+		} catch (MailSendException e) {
+			if (e.getFailedMessages().isEmpty()) {
+				messages.values().forEach(email -> retry(email, e));
+			} else {
+				e.getFailedMessages().forEach((message, cause) -> retry(messages.get(message), cause));
+			}
+		} catch (MailException e) {
+			messages.values().forEach(email -> retry(email, e));
+		}
+	}
+
+	private MimeMessage toMimeMessage(EmailMessage emailMessage) throws MessagingException {
 		MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+		MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+		mimeMessageHelper.setTo(emailMessage.getTo());
+		mimeMessageHelper.setSubject(emailMessage.getSubject());
+		mimeMessageHelper.setText(emailMessage.getMessage(), true);
+		return mimeMessage;
+	}
+
+	private void retry(PendingEmail email, Exception cause) {
+		if (email == null) {
+			return;
+		}
+
+		if (email.getAttempt() >= properties.getMaxAttempts()) {
+			deadLetter(email, cause);
+			return;
+		}
+
+		long backoffMillis = properties.getInitialBackoffMillis() << (email.getAttempt() - 1);
+		log.warn("failed to send email to {}, retry in {}ms", email.getMessage().getTo(), backoffMillis, cause);
+		scheduledRetries.add(email);
 		try {
-			MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
-			mimeMessageHelper.setTo(emailMessage.getTo());
-			mimeMessageHelper.setSubject(emailMessage.getSubject());
-			mimeMessageHelper.setText(emailMessage.getMessage(), true);
-			javaMailSender.send(mimeMessage);
-			log.info("send email: {}" + emailMessage.getMessage());
-		} catch (MessagingException e) {
-			log.error("faild to send email", e);
-			throw new RuntimeException(e);
+			retryScheduler.schedule(() -> {
+				if (scheduledRetries.remove(email)) {
+					enqueue(email.nextAttempt());
+				}
+			}, backoffMillis, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			scheduledRetries.remove(email);
+			deadLetter(email, "application shutdown");
+		}
+	}
+
+	private void deadLetter(PendingEmail email, Object cause) {
+		log.error("dead letter email. to: {}, subject: {}, attempts: {}, cause: {}",
+				email.getMessage().getTo(), email.getMessage().getSubject(), email.getAttempt(), cause);
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	private static class PendingEmail {
+
+		private final EmailMessage message;
+
+		private final int attempt;
+
+		PendingEmail nextAttempt() {
+			return new PendingEmail(message, attempt + 1);
 		}
 	}
 }
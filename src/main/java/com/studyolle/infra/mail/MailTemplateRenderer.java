@@ -0,0 +1,71 @@
+package com.studyolle.infra.mail;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+@Component
+@RequiredArgsConstructor
+public class MailTemplateRenderer {
+
+	private static final long MAXIMUM_SIZE = 1_000;
+	private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+
+	private final TemplateEngine templateEngine;
+	private final MeterRegistry meterRegistry;
+
+	// (템플릿, 공통 변수, 수신자별 변수 이름) -> 수신자별 변수 자리에 자리표시자가 들어간 렌더링 결과
+	private final Cache<List<Object>, String> renderedTemplates = Caffeine.newBuilder()
+			.maximumSize(MAXIMUM_SIZE)
+			.expireAfterAccess(EXPIRE_AFTER_ACCESS)
+			.build();
+
+	// 공통 변수로는 템플릿을 한 번만 렌더링하고, 수신자별 변수는 렌더링 결과의 자리표시자를 바꿔서 채운다.
+	// 자리표시자는 Thymeleaf가 th:text, 속성 값에 하는 것과 같은 방식으로 HTML escape 해서 치환한다.
+	public String render(String template, Map<String, Object> variables, Map<String, String> recipientVariables) {
+		long start = System.nanoTime();
+		List<Object> key = Arrays.asList(template, new TreeMap<>(variables), new TreeSet<>(recipientVariables.keySet()));
+		String rendered = renderedTemplates.getIfPresent(key);
+		boolean hit = rendered != null;
+		if (!hit) {
+			rendered = renderWithPlaceholders(template, variables, recipientVariables);
+			renderedTemplates.put(key, rendered);
+		}
+
+		for (Map.Entry<String, String> recipientVariable : recipientVariables.entrySet()) {
+			rendered = rendered.replace(placeholder(recipientVariable.getKey()),
+					HtmlUtils.htmlEscape(String.valueOf(recipientVariable.getValue())));
+		}
+
+		Timer.builder("mail.render")
+				.tag("template", template)
+				.tag("cache", hit ? "hit" : "miss")
+				.register(meterRegistry)
+				.record(Duration.ofNanos(System.nanoTime() - start));
+		return rendered;
+	}
+
+	private String renderWithPlaceholders(String template, Map<String, Object> variables, Map<String, String> recipientVariables) {
+		Context context = new Context();
+		context.setVariables(variables);
+		recipientVariables.keySet().forEach(name -> context.setVariable(name, placeholder(name)));
+		return templateEngine.process(template, context);
+	}
+
+	private String placeholder(String name) {
+		return "__mail_recipient_" + name + "__";
+	}
+}
@@ -0,0 +1,29 @@
+package com.studyolle.infra.mail;
+
+import java.util.concurrent.TimeUnit;
+
+class SendRateLimiter {
+
+	private final long intervalNanos;
+
+	private long nextFreeNanos = System.nanoTime();
+
+	SendRateLimiter(double permitsPerSecond) {
+		this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+	}
+
+	// 요청한 수만큼 발송 시간을 예약하고, 예약한 시간이 될 때까지 기다린다.
+	void acquire(int permits) throws InterruptedException {
+		long waitNanos = reserve(permits);
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+
+	private synchronized long reserve(int permits) {
+		long now = System.nanoTime();
+		long start = Math.max(now, nextFreeNanos);
+		nextFreeNanos = start + permits * intervalNanos;
+		return start - now;
+	}
+}
@@ -0,0 +1,72 @@
+package com.studyolle.infra.outbox;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter @Setter @EqualsAndHashCode(of = "id")
+@Table(indexes = {
+		@Index(name = "idx_outbox_event_processed", columnList = "processed_date_time, id"),
+		@Index(name = "idx_outbox_event_next_attempt", columnList = "processed_date_time, next_attempt_at")
+})
+public class OutboxEvent {
+
+	@Id @GeneratedValue
+	private Long id;
+
+	// 이벤트 클래스 이름. payload를 이 타입으로 역직렬화해서 발행한다.
+	@Column(nullable = false)
+	private String eventType;
+
+	@Column(nullable = false, columnDefinition = "text")
+	private String payload;
+
+	@Column(nullable = false)
+	private LocalDateTime createdDateTime;
+
+	private LocalDateTime processedDateTime;
+
+	private int attempts;
+
+	// 실패한 이벤트를 다시 가져갈 수 있는 시각. 비어 있으면 바로 가져간다.
+	private LocalDateTime nextAttemptAt;
+
+	@Column(length = 1000)
+	private String lastError;
+
+	public static OutboxEvent of(String eventType, String payload) {
+		OutboxEvent outboxEvent = new OutboxEvent();
+		outboxEvent.setEventType(eventType);
+		outboxEvent.setPayload(payload);
+		outboxEvent.setCreatedDateTime(LocalDateTime.now());
+		return outboxEvent;
+	}
+
+	public void markProcessed() {
+		this.processedDateTime = LocalDateTime.now();
+	}
+
+	// 실패할 때마다 다음 시도까지 기다리는 시간을 두 배로 늘린다. (initialBackoffMillis, 2배, 4배 ... 최대 maxBackoffMillis)
+	public void markFailed(Exception e, int maxAttempts, long initialBackoffMillis, long maxBackoffMillis) {
+		this.attempts++;
+		this.lastError = String.valueOf(e.getMessage());
+		if (this.lastError.length() > 1000) {
+			this.lastError = this.lastError.substring(0, 1000);
+		}
+		if (this.attempts >= maxAttempts) {
+			this.processedDateTime = LocalDateTime.now(); // 더 이상 재시도하지 않는다.
+			return;
+		}
+		long backoffMillis = initialBackoffMillis << Math.min(this.attempts - 1, 30);
+		this.nextAttemptAt = LocalDateTime.now().plus(Duration.ofMillis(Math.min(backoffMillis, maxBackoffMillis)));
+	}
+
+	public boolean isGivenUp(int maxAttempts) {
+		return this.attempts >= maxAttempts;
+	}
+}
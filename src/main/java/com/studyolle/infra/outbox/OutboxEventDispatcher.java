@@ -0,0 +1,71 @@
+package com.studyolle.infra.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyolle.infra.config.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+public class OutboxEventDispatcher {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ObjectMapper objectMapper;
+	private final AppProperties.Outbox properties;
+	private final TransactionTemplate claimTransaction;
+	private final TransactionTemplate handlerTransaction;
+
+	public OutboxEventDispatcher(OutboxEventRepository outboxEventRepository, ApplicationEventPublisher eventPublisher,
+	                             ObjectMapper objectMapper, AppProperties appProperties,
+	                             PlatformTransactionManager transactionManager) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.eventPublisher = eventPublisher;
+		this.objectMapper = objectMapper;
+		this.properties = appProperties.getOutbox();
+		this.claimTransaction = new TransactionTemplate(transactionManager);
+		this.handlerTransaction = new TransactionTemplate(transactionManager);
+		this.handlerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	@Scheduled(fixedDelayString = "${app.outbox.poll-interval-millis:1000}")
+	public void dispatch() {
+		Integer dispatched;
+		do {
+			dispatched = claimTransaction.execute(status -> dispatchBatch());
+		} while (dispatched != null && dispatched == properties.getBatchSize());
+	}
+
+	// 배치를 잠근 트랜잭션이 커밋될 때까지 다른 노드는 같은 이벤트를 가져가지 못한다.
+	private int dispatchBatch() {
+		List<OutboxEvent> outboxEvents = outboxEventRepository.findUnprocessedForUpdate(properties.getBatchSize(), LocalDateTime.now());
+		outboxEvents.forEach(this::dispatch);
+		return outboxEvents.size();
+	}
+
+	// 리스너는 별도 트랜잭션에서 실행해서, 리스너가 실패해도 배치의 다른 이벤트 처리 결과는 커밋된다.
+	private void dispatch(OutboxEvent outboxEvent) {
+		try {
+			Object event = objectMapper.readValue(outboxEvent.getPayload(), Class.forName(outboxEvent.getEventType()));
+			handlerTransaction.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+			outboxEvent.markProcessed();
+		} catch (Exception e) {
+			outboxEvent.markFailed(e, properties.getMaxAttempts(), properties.getInitialBackoffMillis(), properties.getMaxBackoffMillis());
+			if (outboxEvent.isGivenUp(properties.getMaxAttempts())) {
+				log.error("gave up outbox event {} ({}) after {} attempts",
+						outboxEvent.getId(), outboxEvent.getEventType(), outboxEvent.getAttempts(), e);
+			} else {
+				log.warn("failed to dispatch outbox event {} ({}), attempt {}, retry at {}",
+						outboxEvent.getId(), outboxEvent.getEventType(), outboxEvent.getAttempts(), outboxEvent.getNextAttemptAt(), e);
+			}
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.studyolle.infra.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final ObjectMapper objectMapper;
+
+	// 이벤트를 호출한 쪽의 트랜잭션 안에서 outbox 테이블에 저장한다. 변경 내용과 이벤트가 함께 커밋되거나 함께 롤백된다.
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void publish(Object event) {
+		try {
+			String payload = objectMapper.writeValueAsString(event);
+			outboxEventRepository.save(OutboxEvent.of(event.getClass().getName(), payload));
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("이벤트를 저장할 수 없습니다. " + event.getClass().getName(), e);
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.studyolle.infra.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	// 다른 노드가 잡고 있는 row는 건너뛰므로 여러 노드가 동시에 서로 다른 이벤트를 가져간다.
+	// 재시도를 기다리는 이벤트(next_attempt_at이 아직 오지 않은 이벤트)는 가져가지 않는다.
+	@Query(value = "select * from outbox_event where processed_date_time is null " +
+			"and (next_attempt_at is null or next_attempt_at <= :now) order by id limit :limit for update skip locked",
+			nativeQuery = true)
+	List<OutboxEvent> findUnprocessedForUpdate(@Param("limit") int limit, @Param("now") LocalDateTime now);
+}
@@ -1,5 +1,7 @@
 package com.studyolle.modules.account;
 
+import com.studyolle.infra.image.ImageVariant;
+import com.studyolle.infra.image.StoredImage;
 import com.studyolle.modules.tag.Tag;
 import com.studyolle.modules.zone.Zone;
 import lombok.*;
@@ -45,8 +47,8 @@ public class Account {
 
 	private String location;
 
-	@Lob @Basic(fetch = FetchType.EAGER)
-	private String profileImage;
+	@Column(length = 64)
+	private String profileImageHash; // 프로필 이미지의 StoredImage 해시
 
 	/* 알림 설정 값 체크 */
 	private boolean studyCreatedByEmail;
@@ -64,10 +66,13 @@ public class Account {
 	@Builder.Default
 	private boolean studyUpdatedByWeb = true;
 
+	// 조인 테이블의 PK는 (account_id, tags_id) 이므로, 태그로 계정을 찾는 AccountPredicates 쿼리를 위해 역방향 인덱스를 추가
 	@ManyToMany
+	@JoinTable(indexes = @Index(name = "idx_account_tags_tags", columnList = "tags_id"))
 	private Set<Tag> tags = new HashSet<>();
 
 	@ManyToMany
+	@JoinTable(indexes = @Index(name = "idx_account_zones_zones", columnList = "zones_id"))
 	private Set<Zone> zones = new HashSet<>();
 
 	public void generateEmailCheckToken() {
@@ -87,4 +92,13 @@ public class Account {
 	public boolean canSendConfirmEmail() {
 		return this.emailCheckTokenGeneratedAt.isBefore(LocalDateTime.now().minusHours(1));
 	}
+
+	public String getProfileImage() {
+		return profileImageHash != null ? StoredImage.url(profileImageHash, ImageVariant.CARD) : null;
+	}
+
+	// 목록, 메뉴처럼 작게 보여주는 곳에서 사용
+	public String getProfileThumbnail() {
+		return profileImageHash != null ? StoredImage.url(profileImageHash, ImageVariant.THUMBNAIL) : null;
+	}
 }
@@ -0,0 +1,15 @@
+package com.studyolle.modules.account;
+
+import com.studyolle.modules.tag.Tag;
+import com.studyolle.modules.zone.Zone;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+@Transactional(readOnly = true)
+public interface AccountRepositoryExtension {
+
+	List<Account> findByTagsAndZonesAfter(Set<Tag> tags, Set<Zone> zones, Long lastAccountId, int limit);
+
+}
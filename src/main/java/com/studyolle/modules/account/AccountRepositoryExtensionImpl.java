@@ -0,0 +1,26 @@
+package com.studyolle.modules.account;
+
+import com.studyolle.modules.tag.Tag;
+import com.studyolle.modules.zone.Zone;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.List;
+import java.util.Set;
+
+public class AccountRepositoryExtensionImpl extends QuerydslRepositorySupport implements AccountRepositoryExtension {
+
+	public AccountRepositoryExtensionImpl() {
+		super(Account.class);
+	}
+
+	@Override
+	public List<Account> findByTagsAndZonesAfter(Set<Tag> tags, Set<Zone> zones, Long lastAccountId, int limit) {
+		// id 기준 keyset 페이징. offset을 쓰지 않으므로 뒤쪽 청크로 갈수록 느려지지 않는다.
+		QAccount account = QAccount.account;
+		return from(account)
+				.where(AccountPredicates.findByTagsAndZones(tags, zones), account.id.gt(lastAccountId))
+				.orderBy(account.id.asc())
+				.limit(limit)
+				.fetch();
+	}
+}
@@ -4,8 +4,10 @@ import com.studyolle.modules.account.form.SignUpForm;
 import com.studyolle.infra.config.AppProperties;
 import com.studyolle.modules.tag.Tag;
 import com.studyolle.modules.zone.Zone;
+import com.studyolle.infra.image.ImageService;
 import com.studyolle.infra.mail.EmailMessage;
 import com.studyolle.infra.mail.EmailService;
+import com.studyolle.infra.mail.MailTemplateRenderer;
 import com.studyolle.modules.account.form.Notifications;
 import com.studyolle.modules.account.form.Profile;
 import lombok.RequiredArgsConstructor;
@@ -20,12 +22,10 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import javax.validation.Valid;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 
 @Slf4j
@@ -38,8 +38,9 @@ public class AccountService implements UserDetailsService {
 	private final EmailService emailService;
 	private final PasswordEncoder passwordEncoder;
 	private final ModelMapper modelMapper;
-	private final TemplateEngine templateEngine;
+	private final MailTemplateRenderer mailTemplateRenderer;
 	private final AppProperties appProperties;
+	private final ImageService imageService;
 
 
 	public Account processNewAccount(SignUpForm signUpForm) { // 이 메서드가 트랜젝션 단위이므로, 내부 코드에서 에러가 일어나면 메서드 전체가 롤백됨!, newAccount 생성 안됨
@@ -59,13 +60,12 @@ public class AccountService implements UserDetailsService {
 	public void sendSignUpConfirmMail(Account newAccount) {
 		newAccount.generateEmailCheckToken(); // 토큰 생성 위치 변경 (이유: 메일 재전송 시 토큰을 갱신하기 위함)
 
-		Context context = new Context();
-		context.setVariable("link", "/check-email-token?token=" + newAccount.getEmailCheckToken() + "&email=" + newAccount.getEmail());
-		context.setVariable("nickname", newAccount.getNickname());
-		context.setVariable("linkName", "이메일 인증하기");
-		context.setVariable("message", "스터디올래 서비스를 사용하려면 링크를 클릭하세요.");
-		context.setVariable("host", appProperties.getHost());
-		String message = templateEngine.process("mail/simple-link", context);
+		String message = mailTemplateRenderer.render("mail/simple-link",
+				Map.of("linkName", "이메일 인증하기",
+						"message", "스터디올래 서비스를 사용하려면 링크를 클릭하세요.",
+						"host", appProperties.getHost()),
+				Map.of("link", "/check-email-token?token=" + newAccount.getEmailCheckToken() + "&email=" + newAccount.getEmail(),
+						"nickname", newAccount.getNickname()));
 
 		EmailMessage emailMessage = EmailMessage.builder()
 				.to(newAccount.getEmail())
@@ -112,7 +112,9 @@ public class AccountService implements UserDetailsService {
 	}
 
 	public void updateProfile(Account account, Profile profile) {
+		String profileImageHash = imageService.store(profile.getProfileImage()); // data URL은 이미지 저장소에 저장하고 해시만 남긴다. 저장할 수 없으면 계정을 바꾸기 전에 실패한다.
 		modelMapper.map(profile, account);
+		account.setProfileImageHash(profileImageHash);
 		accountRepository.save(account); // id가 있는지 없는지 판단하여 있으면 merge(update) 시킨다.
 		// TODO 문제가 하나 더 남았습니다.
 	}
@@ -136,14 +138,12 @@ public class AccountService implements UserDetailsService {
 	public void sendLoginLink(Account account) {
 		account.generateEmailCheckToken();
 
-		Context context = new Context();
-		context.setVariable("link", "/login-by-email?token=" + account.getEmailCheckToken() +
-				"&email=" + account.getEmail());
-		context.setVariable("nickname", account.getNickname());
-		context.setVariable("linkName", "스터디올래 로그인하기");
-		context.setVariable("message", "로그인 하려면 아래 링크를 클릭하세요.");
-		context.setVariable("host", appProperties.getHost());
-		String message = templateEngine.process("mail/simple-link", context);
+		String message = mailTemplateRenderer.render("mail/simple-link",
+				Map.of("linkName", "스터디올래 로그인하기",
+						"message", "로그인 하려면 아래 링크를 클릭하세요.",
+						"host", appProperties.getHost()),
+				Map.of("link", "/login-by-email?token=" + account.getEmailCheckToken() + "&email=" + account.getEmail(),
+						"nickname", account.getNickname()));
 
 		EmailMessage emailMessage = EmailMessage.builder()
 				.to(account.getEmail())
@@ -154,35 +154,29 @@ public class AccountService implements UserDetailsService {
 		emailService.sendEmail(emailMessage);
 	}
 
+	// account는 CurrentAccountProvider가 조회한 영속 상태의 Account이므로 다시 조회하지 않는다.
 	public void addTag(Account account, Tag tag) {
-		Optional<Account> byId = accountRepository.findById(account.getId());
-		byId.ifPresent(a -> a.getTags().add(tag));
+		account.getTags().add(tag);
 	}
 
 	public Set<Tag> getTags(Account account) {
-		Optional<Account> byId = accountRepository.findById(account.getId());
-		return byId.orElseThrow().getTags();
+		return account.getTags();
 	}
 
 	public void removeTag(Account account, Tag tag) {
-		Optional<Account> byId = accountRepository.findById(account.getId());
-		byId.ifPresent(a -> a.getTags().remove(tag));
+		account.getTags().remove(tag);
 	}
 
-
 	public Set<Zone> getZones(Account account) {
-		Optional<Account> byId = accountRepository.findById(account.getId());
-		return byId.orElseThrow().getZones();
+		return account.getZones();
 	}
 
 	public void addZone(Account account, Zone zone) {
-		Optional<Account> byId = accountRepository.findById(account.getId());
-		byId.ifPresent(a -> a.getZones().add(zone));
+		account.getZones().add(zone);
 	}
 
 	public void removeZone(Account account, Zone zone) {
-		Optional<Account> byId = accountRepository.findById(account.getId());
-		byId.ifPresent(a -> a.getZones().remove(zone));
+		account.getZones().remove(zone);
 	}
 
 	public Account getAccount(String nickname) {
@@ -1,14 +1,12 @@
 package com.studyolle.modules.account;
 
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+// 로그인한 사용자의 Account. 로그인하지 않았으면 null. CurrentAccountArgumentResolver가 요청마다 한 번만 조회한다.
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.PARAMETER)
-@AuthenticationPrincipal(expression = "#this == 'anonymousUser' ? null : account")
 public @interface CurrentAccount {
 }
@@ -0,0 +1,28 @@
+package com.studyolle.modules.account;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+@RequiredArgsConstructor
+public class CurrentAccountArgumentResolver implements HandlerMethodArgumentResolver {
+
+	private final CurrentAccountProvider currentAccountProvider;
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return parameter.hasParameterAnnotation(CurrentAccount.class)
+				&& Account.class.isAssignableFrom(parameter.getParameterType());
+	}
+
+	@Override
+	public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+	                              NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+		return currentAccountProvider.getCurrentAccount();
+	}
+}
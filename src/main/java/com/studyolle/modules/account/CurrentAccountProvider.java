@@ -0,0 +1,54 @@
+package com.studyolle.modules.account;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+// 세션의 UserAccount에 들어 있는 Account는 로그인할 때의 스냅샷이다.
+// 요청에서 처음 필요할 때 영속 상태의 Account를 한 번 조회해서 요청 속성에 담아 두고, 컨트롤러, 서비스, 인터셉터가 같이 쓴다.
+@Component
+@RequiredArgsConstructor
+public class CurrentAccountProvider {
+
+	private static final String ATTRIBUTE_NAME = CurrentAccountProvider.class.getName() + ".account";
+
+	private final AccountRepository accountRepository;
+
+	public Account getCurrentAccount() {
+		Long accountId = getCurrentAccountId();
+		if (accountId == null) {
+			return null;
+		}
+
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes == null) {
+			return accountRepository.findById(accountId).orElse(null);
+		}
+
+		Optional<Account> account = getMemoized(requestAttributes);
+		if (account == null) {
+			account = accountRepository.findById(accountId);
+			requestAttributes.setAttribute(ATTRIBUTE_NAME, account, RequestAttributes.SCOPE_REQUEST);
+		}
+		return account.orElse(null);
+	}
+
+	// Account를 조회하지 않고 id만 필요할 때 사용한다.
+	public Long getCurrentAccountId() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !(authentication.getPrincipal() instanceof UserAccount)) {
+			return null;
+		}
+		return ((UserAccount) authentication.getPrincipal()).getAccount().getId();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Optional<Account> getMemoized(RequestAttributes requestAttributes) {
+		return (Optional<Account>) requestAttributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+	}
+}
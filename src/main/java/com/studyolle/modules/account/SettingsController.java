@@ -1,16 +1,13 @@
 package com.studyolle.modules.account;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studyolle.modules.account.form.*;
 import com.studyolle.modules.tag.Tag;
 import com.studyolle.modules.zone.Zone;
 import com.studyolle.modules.account.validate.NicknameValidator;
 import com.studyolle.modules.account.validate.PasswordFormValidator;
 import com.studyolle.modules.tag.TagForm;
-import com.studyolle.modules.tag.TagRepository;
 import com.studyolle.modules.tag.TagService;
-import com.studyolle.modules.zone.ZoneRepository;
+import com.studyolle.modules.zone.ZoneService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
@@ -22,7 +19,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
-import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -47,9 +43,7 @@ public class SettingsController {
 	private final ModelMapper modelMapper;
 	private final NicknameValidator nicknameValidator;
 	private final TagService tagService;
-	private final TagRepository tagRepository;
-	private final ZoneRepository zoneRepository;
-	private final ObjectMapper objectMapper;
+	private final ZoneService zoneService;
 
 	@InitBinder("passwordForm")
 	public void passwordFormInitBinder(WebDataBinder webDataBinder) {
@@ -76,7 +70,14 @@ public class SettingsController {
 			return SETTINGS + PROFILE;
 		}
 
-		accountService.updateProfile(account, profile);
+		try {
+			accountService.updateProfile(account, profile);
+		} catch (IllegalArgumentException e) { // 허용하지 않는 형식, 깨진 값, 너무 큰 이미지
+			errors.rejectValue("profileImage", "invalid.profileImage", e.getMessage());
+			profile.setProfileImage(null);
+			model.addAttribute(account);
+			return SETTINGS + PROFILE;
+		}
 		attributes.addFlashAttribute("message", "프로필을 수정했습니다.");
 		return "redirect:/" + SETTINGS + PROFILE;
 	}
@@ -122,15 +123,12 @@ public class SettingsController {
 	}
 
 	@GetMapping(TAGS)
-	public String updateTags(@CurrentAccount Account account, Model model) throws JsonProcessingException {
+	public String updateTags(@CurrentAccount Account account, Model model) {
 		model.addAttribute(account);
 
 		Set<Tag> tags = accountService.getTags(account);
 		model.addAttribute("tags", tags.stream().map(Tag::getTitle).collect(Collectors.toList()));
 
-		List<String> allTags = tagRepository.findAll().stream().map(Tag::getTitle).collect(Collectors.toList());
-		model.addAttribute("whitelist", objectMapper.writeValueAsString(allTags));
-
 		return SETTINGS + TAGS;
 	}
 
@@ -146,7 +144,7 @@ public class SettingsController {
 	@ResponseBody
 	public ResponseEntity removeTag(@CurrentAccount Account account, @RequestBody TagForm tagForm) {
 		String title = tagForm.getTagTitle();
-		Tag tag = tagRepository.findByTitle(title);
+		Tag tag = tagService.findByTitle(title);
 		if (tag == null) {
 			return ResponseEntity.badRequest().build();
 		}
@@ -156,22 +154,19 @@ public class SettingsController {
 	}
 
 	@GetMapping(ZONES)
-	public String updateZonesForm(@CurrentAccount Account account, Model model) throws JsonProcessingException {
+	public String updateZonesForm(@CurrentAccount Account account, Model model) {
 		model.addAttribute(account);
 
 		Set<Zone> zones = accountService.getZones(account);
 		model.addAttribute("zones", zones.stream().map(Zone::toString).collect(Collectors.toList()));
 
-		List<String> allZones = zoneRepository.findAll().stream().map(Zone::toString).collect(Collectors.toList());
-		model.addAttribute("whitelist", objectMapper.writeValueAsString(allZones));
-
 		return SETTINGS + ZONES;
 	}
 
 	@PostMapping(ZONES + "/add")
 	@ResponseBody
 	public ResponseEntity addZone(@CurrentAccount Account account, @RequestBody ZoneForm zoneForm) {
-		Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+		Zone zone = zoneService.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
 		if (zone == null) {
 			return ResponseEntity.badRequest().build();
 		}
@@ -183,7 +178,7 @@ public class SettingsController {
 	@PostMapping(ZONES + "/remove")
 	@ResponseBody
 	public ResponseEntity removeZone(@CurrentAccount Account account, @RequestBody ZoneForm zoneForm) {
-		Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+		Zone zone = zoneService.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
 		if (zone == null) {
 			return ResponseEntity.badRequest().build();
 		}
@@ -0,0 +1,81 @@
+package com.studyolle.modules.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// number_of_accepted_enrollments 컬럼은 나중에 추가했으므로 그 전에 만든 모임은 0으로 들어가 있다.
+// 선착순 확정이 이 값을 읽기 전에(요청을 받기 전에) 확정된 참가 신청 수로 맞춘다. 값이 같은 모임은 건드리지 않는다.
+// 컬럼을 추가한 뒤에는 참가 신청을 바꿀 때마다 같이 갱신되므로 한 번만 실행하고 EventDataMigration에 기록한다.
+@Slf4j
+@Component
+public class AcceptedEnrollmentCountBackfill {
+
+	private static final String MIGRATION_NAME = "backfill-number-of-accepted-enrollments";
+
+	private static final int BATCH_SIZE = 500;
+
+	// 참가 신청을 바꾸는 요청과 같은 순서(모임 row 잠금 -> 개수 반영)로 처리하도록 먼저 모임을 잠근다.
+	private static final String LOCK_EVENTS = "select id from event where id > ? order by id limit " + BATCH_SIZE + " for update";
+
+	private static final String UPDATE_COUNTS = "update event set number_of_accepted_enrollments = " +
+			"(select count(*) from enrollment where enrollment.event_id = event.id and enrollment.accepted) " +
+			"where id between ? and ? and number_of_accepted_enrollments <> " +
+			"(select count(*) from enrollment where enrollment.event_id = event.id and enrollment.accepted)";
+
+	private final EventDataMigrationRepository eventDataMigrationRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	public AcceptedEnrollmentCountBackfill(EventDataMigrationRepository eventDataMigrationRepository, JdbcTemplate jdbcTemplate,
+	                                       PlatformTransactionManager transactionManager) {
+		this.eventDataMigrationRepository = eventDataMigrationRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@PostConstruct
+	public void backfill() {
+		if (eventDataMigrationRepository.existsById(MIGRATION_NAME)) {
+			return;
+		}
+
+		Long lastId = 0L;
+		while (lastId != null) {
+			long afterId = lastId;
+			lastId = transactionTemplate.execute(status -> backfillAfter(afterId));
+		}
+
+		EventDataMigration migration = new EventDataMigration();
+		migration.setName(MIGRATION_NAME);
+		migration.setCompletedDateTime(LocalDateTime.now());
+		try {
+			eventDataMigrationRepository.save(migration);
+		} catch (DataIntegrityViolationException e) {
+			// 동시에 시작한 다른 노드가 먼저 기록했다.
+		}
+	}
+
+	// afterId 다음 모임들을 잠그고 개수를 맞춘다. 마지막으로 잠근 모임 id를, 남은 모임이 없으면 null을 반환한다.
+	private Long backfillAfter(long afterId) {
+		List<Long> ids = jdbcTemplate.queryForList(LOCK_EVENTS, Long.class, afterId);
+		if (ids.isEmpty()) {
+			return null;
+		}
+
+		Long firstId = ids.get(0);
+		Long lastId = ids.get(ids.size() - 1);
+		int updated = jdbcTemplate.update(UPDATE_COUNTS, firstId, lastId);
+		if (updated > 0) {
+			log.info("backfilled number_of_accepted_enrollments of {} events ({} ~ {})", updated, firstId, lastId);
+		}
+		return lastId;
+	}
+}
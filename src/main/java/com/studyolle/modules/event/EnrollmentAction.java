@@ -0,0 +1,7 @@
+package com.studyolle.modules.event;
+
+public enum EnrollmentAction {
+
+	ACCEPT, REJECT, CHECKIN, CANCEL_CHECKIN;
+
+}
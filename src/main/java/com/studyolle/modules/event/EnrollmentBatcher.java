@@ -0,0 +1,150 @@
+package com.studyolle.modules.event;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studyolle.infra.config.AppProperties;
+import com.studyolle.modules.account.Account;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 같은 모임에 몰린 참가 신청을 도착한 순서대로 모아서 한 트랜잭션에 저장한다.
+// 별도 스레드 없이, 모임마다 처리 중인 요청이 없으면 기다리던 요청 스레드 하나가 쌓인 신청을 묶음으로 처리한다.
+// 한 스레드가 남의 신청을 끝없이 처리하지 않도록 자기 신청이 처리된 뒤 한 묶음까지만 처리하고 다른 요청 스레드에 넘긴다.
+@Component
+@RequiredArgsConstructor
+public class EnrollmentBatcher {
+
+	// 신청이 끊긴 모임의 큐를 정리한다.
+	private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+
+	// 기다리는 요청 스레드가 처리하는 스레드가 없는지 다시 확인하는 간격
+	private static final long HANDOFF_POLL_MILLIS = 20;
+
+	private final EventService eventService;
+	private final AppProperties appProperties;
+
+	// eventId -> 처리를 기다리는 참가 신청
+	private final Cache<Long, EnrollmentQueue> queues = Caffeine.newBuilder()
+			.expireAfterAccess(EXPIRE_AFTER_ACCESS)
+			.build();
+
+	// 신청을 처리했으면 true, 기다리는 시간 안에 처리하지 못해서 신청을 취소했으면 false를 반환한다.
+	public boolean enroll(Long eventId, Account account) {
+		EnrollmentQueue queue = queues.get(eventId, id -> new EnrollmentQueue());
+		EnrollmentRequest request = new EnrollmentRequest(account);
+		queue.requests.add(request);
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(appProperties.getEnrollmentBatch().getWaitTimeoutMillis());
+		while (!request.result.isDone()) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+				if (queue.requests.remove(request)) {
+					return false; // 아직 아무도 꺼내지 않았으므로 처리되지 않는다.
+				}
+				break; // 이미 꺼내서 처리 중이면 결과를 기다린다.
+			}
+
+			if (queue.draining.compareAndSet(false, true)) {
+				try {
+					drain(eventId, queue, request);
+				} finally {
+					queue.draining.set(false);
+				}
+			} else {
+				await(request, Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(HANDOFF_POLL_MILLIS)));
+			}
+		}
+		rethrowFailure(request);
+		return true;
+	}
+
+	// 자기 신청이 들어 있는 묶음 다음 한 묶음까지만 처리한다. 남은 신청은 기다리던 다른 요청 스레드가 이어서 처리한다.
+	private void drain(Long eventId, EnrollmentQueue queue, EnrollmentRequest own) {
+		int maxBatchSize = appProperties.getEnrollmentBatch().getMaxBatchSize();
+		boolean ownProcessed = false;
+		while (true) {
+			List<EnrollmentRequest> batch = new ArrayList<>(maxBatchSize);
+			EnrollmentRequest request;
+			while (batch.size() < maxBatchSize && (request = queue.requests.poll()) != null) {
+				batch.add(request);
+			}
+			if (batch.isEmpty()) {
+				return;
+			}
+
+			process(eventId, batch);
+			if (ownProcessed) {
+				return;
+			}
+			ownProcessed = own.result.isDone();
+		}
+	}
+
+	private void process(Long eventId, List<EnrollmentRequest> batch) {
+		List<Account> accounts = new ArrayList<>(batch.size());
+		batch.forEach(request -> accounts.add(request.account));
+
+		try {
+			eventService.newEnrollments(eventId, accounts);
+			batch.forEach(request -> request.result.complete(null));
+		} catch (RuntimeException e) {
+			if (batch.size() == 1) {
+				batch.get(0).result.completeExceptionally(e);
+				return;
+			}
+			// 묶음 전체가 롤백됐다. 한 계정 때문에 다른 계정의 신청이 실패하지 않도록 하나씩 다시 처리한다.
+			batch.forEach(request -> process(eventId, Collections.singletonList(request)));
+		}
+	}
+
+	private void await(EnrollmentRequest request, long timeoutNanos) {
+		try {
+			request.result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException | ExecutionException ignored) {
+			// 결과는 enroll에서 확인한다.
+		}
+	}
+
+	private void rethrowFailure(EnrollmentRequest request) {
+		try {
+			request.result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private static class EnrollmentQueue {
+
+		private final Queue<EnrollmentRequest> requests = new ConcurrentLinkedQueue<>();
+
+		private final AtomicBoolean draining = new AtomicBoolean();
+
+	}
+
+	@RequiredArgsConstructor
+	private static class EnrollmentRequest {
+
+		private final Account account;
+
+		private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+	}
+}
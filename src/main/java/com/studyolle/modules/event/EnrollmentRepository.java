@@ -1,10 +1,38 @@
 package com.studyolle.modules.event;
 
 import com.studyolle.modules.account.Account;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 	boolean existsByEventAndAccount(Event event, Account account);
 
 	Enrollment findByEventAndAccount(Event event, Account account);
+
+	// idx_enrollment_waiting을 따라 앞에서부터 필요한 만큼만 읽는다.
+	List<Enrollment> findByEventAndAcceptedOrderByEnrolledAtAscIdAsc(Event event, boolean accepted, Pageable pageable);
+
+	@Query("select e.account.id from Enrollment e where e.event = :event and e.account.id in :accountIds")
+	Set<Long> findAccountIdsByEventAndAccountIdIn(Event event, Collection<Long> accountIds);
+
+	List<Enrollment> findByEventAndIdInOrderByEnrolledAtAscIdAsc(Event event, Collection<Long> ids);
+
+	// 영속성 컨텍스트에 남은 참가 신청은 바뀌기 전 상태이므로 update 뒤에 비운다.
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Enrollment e set e.accepted = :accepted where e.id in :ids")
+	int updateAccepted(Collection<Long> ids, boolean accepted);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Enrollment e set e.attended = :attended where e.id in :ids")
+	int updateAttended(Collection<Long> ids, boolean attended);
+
+	long countByEvent(Event event);
+
+	long countByEventAndAccepted(Event event, boolean accepted);
 }
@@ -3,24 +3,27 @@ package com.studyolle.modules.event;
 import com.studyolle.modules.account.Account;
 import com.studyolle.modules.account.UserAccount;
 import com.studyolle.modules.study.Study;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.Hibernate;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
-@NamedEntityGraph(
-		name = "Event.withEnrollments",
-		attributeNodes = @NamedAttributeNode("enrollments")
-)
 @Entity
 @Getter
 @Setter
 @EqualsAndHashCode(of = "id")
+@Table(indexes = {
+		@Index(name = "idx_event_study_start", columnList = "study_id, start_date_time"),
+		@Index(name = "idx_event_study_end", columnList = "study_id, end_date_time")
+})
 public class Event {
 
 	@Id @GeneratedValue
@@ -60,12 +63,24 @@ public class Event {
 	@Enumerated(EnumType.STRING)
 	private EventType eventType;
 
+	// 확정된 참가 신청 수. 참가 신청 목록을 읽지 않고 남은 자리를 판단할 수 있도록 모임 row에 함께 둔다.
+	// 모임 row를 잠근 상태에서 아래 메서드로만 바꾼다.
+	@Column(columnDefinition = "integer not null default 0")
+	@Setter(AccessLevel.NONE)
+	private int numberOfAcceptedEnrollments;
+
+	// 참가 신청 목록에서 한 번 만들어 두는 요약. 참가 신청 목록을 바꾸면 다시 만든다.
+	@Transient
+	@Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+	private EnrollmentSummary enrollmentSummary;
+
 	public boolean isEnrollableFor(UserAccount userAccount) {
-		return isNotClosed() && !isAttended(userAccount) && !isAlreadyEnrolled(userAccount);
+		return isNotClosed() && findEnrollmentOf(userAccount) == null;
 	}
 
 	public boolean isDisenrollableFor(UserAccount userAccount) {
-		return isNotClosed() && !isAttended(userAccount) && isAlreadyEnrolled(userAccount);
+		Enrollment enrollment = findEnrollmentOf(userAccount);
+		return isNotClosed() && enrollment != null && !enrollment.isAttended();
 	}
 
 	private boolean isNotClosed() {
@@ -73,104 +88,177 @@ public class Event {
 	}
 
 	public boolean isAttended(UserAccount userAccount) {
-		Account account = userAccount.getAccount();
-		for (Enrollment e : this.enrollments) {
-			if (e.getAccount().equals(account) && e.isAttended()) {
-				return true;
-			}
-		}
-
-		return false;
+		Enrollment enrollment = findEnrollmentOf(userAccount);
+		return enrollment != null && enrollment.isAttended();
 	}
 
 	public int numberOfRemainSpots() {
-		return this.limitOfEnrollments - (int) this.enrollments.stream().filter(Enrollment::isAccepted).count();
-	}
-
-	private boolean isAlreadyEnrolled(UserAccount userAccount) {
-		Account account = userAccount.getAccount();
-		for (Enrollment e : this.enrollments) {
-			if (e.getAccount().equals(account)) {
-				return true;
-			}
-		}
-		return false;
+		return getLimit() - this.numberOfAcceptedEnrollments;
 	}
 
-	public long getNumberOfAcceptedEnrollments() {
-		return this.enrollments.stream().filter(Enrollment::isAccepted).count();
+	public boolean isAbleToAcceptWaitingEnrollment() {
+		return this.eventType == EventType.FCFS && getLimit() > this.getNumberOfAcceptedEnrollments();
 	}
 
-	public boolean isAbleToAcceptWaitingEnrollment() {
-		return this.eventType == EventType.FCFS && this.limitOfEnrollments > this.getNumberOfAcceptedEnrollments();
+	// 참가 신청 목록을 읽지 않고 새 신청의 확정 여부를 정한다. 확정하면 확정 인원에 바로 반영한다.
+	public boolean admitNewEnrollment() {
+		if (this.isAbleToAcceptWaitingEnrollment()) {
+			this.numberOfAcceptedEnrollments++;
+			return true;
+		}
+		return false;
 	}
 
 	public void addEnrollment(Enrollment enrollment) {
 		this.enrollments.add(enrollment);
 		enrollment.setEvent(this);
+		if (enrollment.isAccepted()) {
+			this.numberOfAcceptedEnrollments++;
+		}
+		this.enrollmentSummary = null;
 	}
 
 	public void removeEnrollment(Enrollment enrollment) {
-		this.enrollments.remove(enrollment);
+		// 아직 읽지 않은 참가 신청 목록을 지우려고 전부 읽어 오지 않는다.
+		if (Hibernate.isInitialized(this.enrollments)) {
+			this.enrollments.remove(enrollment);
+		}
 		enrollment.setEvent(null);
+		if (enrollment.isAccepted()) {
+			this.numberOfAcceptedEnrollments--;
+		}
+		this.enrollmentSummary = null;
 	}
 
 	public boolean canAccept(Enrollment enrollment) {
 		return this.eventType == EventType.CONFIRMATIVE
-				&& this.enrollments.contains(enrollment)
-				&& this.limitOfEnrollments > this.getNumberOfAcceptedEnrollments()
+				&& isEventOf(enrollment)
+				&& getLimit() > this.getNumberOfAcceptedEnrollments()
 				&& !enrollment.isAttended()
 				&& !enrollment.isAccepted();
 	}
 
 	public boolean canReject(Enrollment enrollment) {
 		return this.eventType == EventType.CONFIRMATIVE
-				&& this.enrollments.contains(enrollment)
+				&& isEventOf(enrollment)
 				&& !enrollment.isAttended()
 				&& enrollment.isAccepted();
 	}
 
-	private List<Enrollment> getWaitingList() {
-		return this.enrollments.stream().filter(enrollment -> !enrollment.isAccepted()).collect(Collectors.toList());
+	public boolean canCheckIn(Enrollment enrollment) {
+		return isEventOf(enrollment) && enrollment.isAccepted() && !enrollment.isAttended();
 	}
 
-	public void acceptWaitingList() {
-		if (this.isAbleToAcceptWaitingEnrollment()) {
-			var waitingList = getWaitingList();
-			int numberToAccept = (int) Math.min(this.limitOfEnrollments - this.getNumberOfAcceptedEnrollments(), waitingList.size());
-			waitingList.subList(0, numberToAccept).forEach(e -> e.setAccepted(true));
-		}
+	public boolean canCancelCheckIn(Enrollment enrollment) {
+		return isEventOf(enrollment) && enrollment.isAttended();
 	}
 
-	public void acceptNextWaitingEnrollment() {
-		if (this.isAbleToAcceptWaitingEnrollment()) {
-			Enrollment enrollmentToAccept = this.getTheFirstWaitingEnrollment();
-			if (enrollmentToAccept != null) {
-				enrollmentToAccept.setAccepted(true);
+	// 여러 참가 신청을 한 번에 처리할 때 지금 처리할 수 있는 신청만 고른다.
+	// 수락과 취소는 고르는 대로 확정 인원에 반영하므로 한 번에 수락해도 모집 인원을 넘지 않는다.
+	public List<Long> selectEnrollmentsFor(EnrollmentAction action, List<Enrollment> enrollments) {
+		List<Long> selected = new ArrayList<>();
+		for (Enrollment enrollment : enrollments) {
+			switch (action) {
+				case ACCEPT:
+					if (canAccept(enrollment)) {
+						this.numberOfAcceptedEnrollments++;
+						selected.add(enrollment.getId());
+					}
+					break;
+				case REJECT:
+					if (canReject(enrollment)) {
+						this.numberOfAcceptedEnrollments--;
+						selected.add(enrollment.getId());
+					}
+					break;
+				case CHECKIN:
+					if (canCheckIn(enrollment)) {
+						selected.add(enrollment.getId());
+					}
+					break;
+				case CANCEL_CHECKIN:
+					if (canCancelCheckIn(enrollment)) {
+						selected.add(enrollment.getId());
+					}
+					break;
 			}
 		}
+		return selected;
 	}
 
-	private Enrollment getTheFirstWaitingEnrollment() {
-		for (Enrollment e : this.enrollments) {
-			if (!e.isAccepted()) {
-				return e;
-			}
+	// 참가 신청 목록을 읽지 않고 신청에 연결된 모임으로 확인한다.
+	private boolean isEventOf(Enrollment enrollment) {
+		return enrollment.getEvent() != null && this.id != null && this.id.equals(enrollment.getEvent().getId());
+	}
+
+	// 계정 id로 찾으므로 참가 신청한 계정을 읽어 오거나 equals로 비교하지 않는다.
+	private Enrollment findEnrollmentOf(UserAccount userAccount) {
+		Long accountId = userAccount.getAccount().getId();
+		return accountId == null ? null : getEnrollmentSummary().byAccountId.get(accountId);
+	}
+
+	private int getLimit() {
+		return this.limitOfEnrollments == null ? 0 : this.limitOfEnrollments;
+	}
+
+	// 잠그면서 다시 읽은 경우에도 요약을 새로 만든다.
+	@PostLoad
+	private void resetEnrollmentSummary() {
+		this.enrollmentSummary = null;
+	}
+
+	private EnrollmentSummary getEnrollmentSummary() {
+		if (this.enrollmentSummary == null) {
+			this.enrollmentSummary = new EnrollmentSummary(this.enrollments);
 		}
+		return this.enrollmentSummary;
+	}
 
-		return null;
+	// 선착순 모임에서 지금 대기 중인 신청을 몇 개까지 확정할 수 있는지
+	public int numberOfAcceptableWaitingEnrollments() {
+		return this.eventType == EventType.FCFS ? Math.max(getLimit() - this.numberOfAcceptedEnrollments, 0) : 0;
+	}
+
+	// 신청한 순서대로 읽어 온 대기 중인 신청을 남은 자리만큼 확정한다.
+	public void acceptWaitingEnrollments(List<Enrollment> waitingList) {
+		for (Enrollment enrollment : waitingList) {
+			if (!this.isAbleToAcceptWaitingEnrollment()) {
+				return;
+			}
+			if (!enrollment.isAccepted()) {
+				enrollment.setAccepted(true);
+				this.numberOfAcceptedEnrollments++;
+			}
+		}
 	}
 
 	public void accept(Enrollment enrollment) {
 		if (this.eventType == EventType.CONFIRMATIVE
-				&& this.limitOfEnrollments > this.getNumberOfAcceptedEnrollments()) {
+				&& getLimit() > this.getNumberOfAcceptedEnrollments()
+				&& !enrollment.isAccepted()) {
 			enrollment.setAccepted(true);
+			this.numberOfAcceptedEnrollments++;
 		}
 	}
 
 	public void reject(Enrollment enrollment) {
-		if (this.eventType == EventType.CONFIRMATIVE) {
+		if (this.eventType == EventType.CONFIRMATIVE && enrollment.isAccepted()) {
 			enrollment.setAccepted(false);
+			this.numberOfAcceptedEnrollments--;
+		}
+	}
+
+	private static class EnrollmentSummary {
+
+		private final Map<Long, Enrollment> byAccountId = new HashMap<>();
+
+		EnrollmentSummary(List<Enrollment> enrollments) {
+			for (Enrollment e : enrollments) {
+				Account account = e.getAccount();
+				if (account != null && account.getId() != null) {
+					byAccountId.put(account.getId(), e);
+				}
+			}
 		}
 	}
 }
@@ -3,34 +3,39 @@ package com.studyolle.modules.event;
 import com.studyolle.modules.account.CurrentAccount;
 import com.studyolle.modules.account.Account;
 import com.studyolle.modules.study.Study;
+import com.studyolle.modules.event.form.EnrollmentBulkForm;
 import com.studyolle.modules.event.form.EventForm;
 import com.studyolle.modules.event.validator.EventValidator;
 import com.studyolle.modules.study.StudyRepository;
 import com.studyolle.modules.study.StudyService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Controller
 @RequestMapping("/study/{path}")
 @RequiredArgsConstructor
 public class EventController {
 
+	private static final int OLD_EVENTS_PAGE_SIZE = 20;
+
 	private final StudyService studyService;
 	private final EventService eventService;
 	private final ModelMapper modelMapper;
 	private final EventValidator eventValidator;
 	private final EventRepository eventRepository;
 	private final StudyRepository studyRepository;
+	private final EnrollmentBatcher enrollmentBatcher;
 
 	@InitBinder("eventForm")
 	public void initBinder(WebDataBinder webDataBinder) {
@@ -70,24 +75,17 @@ public class EventController {
 	}
 
 	@GetMapping("/events")
-	public String viewStudyEvents(@CurrentAccount Account account, @PathVariable String path, Model model) {
+	public String viewStudyEvents(@CurrentAccount Account account, @PathVariable String path,
+	                              @RequestParam(defaultValue = "0") int page, Model model) {
 		Study study = studyService.getStudy(path);
 		model.addAttribute(account);
 		model.addAttribute(study);
 
-		List<Event> events = eventRepository.findByStudyOrderByStartDateTime(study);
-		List<Event> newEvents = new ArrayList<>();
-		List<Event> oldEvents = new ArrayList<>();
-		events.forEach(e -> {
-			if (e.getEndDateTime().isBefore(LocalDateTime.now())) {
-				oldEvents.add(e);
-			} else {
-				newEvents.add(e);
-			}
-		});
-
-		model.addAttribute("newEvents", newEvents);
-		model.addAttribute("oldEvents", oldEvents);
+		// 새 모임은 모두 보여주고, 계속 쌓이는 지난 모임은 최근 것부터 페이지로 나눠서 읽는다.
+		LocalDateTime now = LocalDateTime.now();
+		model.addAttribute("newEvents", eventRepository.findByStudyAndEndDateTimeGreaterThanEqualOrderByStartDateTime(study, now));
+		model.addAttribute("oldEvents", eventRepository.findByStudyAndEndDateTimeBeforeOrderByStartDateTimeDesc(
+				study, now, PageRequest.of(Math.max(page, 0), OLD_EVENTS_PAGE_SIZE)));
 
 		return "study/events";
 	}
@@ -129,11 +127,15 @@ public class EventController {
 		return "redirect:/study/" + study.getEncodedPath() + "/events";
 	}
 
+	// 신청이 몰릴 때 요청마다 모임을 읽지 않도록 id만 받아서 EnrollmentBatcher에 넘긴다.
 	@PostMapping("/events/{id}/enroll")
-	public String newEnrollment(@CurrentAccount Account account, @PathVariable String path, @PathVariable("id") Event event) {
+	public String newEnrollment(@CurrentAccount Account account, @PathVariable String path, @PathVariable("id") Long eventId,
+	                            RedirectAttributes attributes) {
 		Study study = studyService.getStudyToEnroll(path);
-		eventService.newEnrollment(event, account);
-		return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId();
+		if (!enrollmentBatcher.enroll(eventId, account)) {
+			attributes.addFlashAttribute("message", "참가 신청이 몰려 처리하지 못했습니다. 잠시 후 다시 신청해 주세요.");
+		}
+		return "redirect:/study/" + study.getEncodedPath() + "/events/" + eventId;
 	}
 
 	@PostMapping("/events/{id}/disenroll")
@@ -159,6 +161,18 @@ public class EventController {
 		return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId();
 	}
 
+	// 여러 참가 신청을 한 번에 수락, 취소, 체크인, 체크인 취소 한다. 실제로 처리한 참가 신청 id를 돌려준다.
+	@PostMapping("/events/{id}/enrollments")
+	@ResponseBody
+	public ResponseEntity updateEnrollments(@CurrentAccount Account account, @PathVariable String path,
+	                                        @PathVariable("id") Event event, @Valid @RequestBody EnrollmentBulkForm enrollmentBulkForm) {
+		Study study = studyService.getStudyToUpdate(account, path);
+		if (!study.equals(event.getStudy())) { // 다른 스터디의 모임은 이 스터디 관리자가 처리할 수 없다.
+			return ResponseEntity.badRequest().build();
+		}
+		return ResponseEntity.ok(eventService.updateEnrollments(event, enrollmentBulkForm.getEnrollmentIds(), enrollmentBulkForm.getAction()));
+	}
+
 	@GetMapping("/events/{eventId}/enrollments/{enrollmentId}/checkin")
 	public String checkInEnrollment(@CurrentAccount Account account, @PathVariable String path,
 	                                @PathVariable("eventId") Event event, @PathVariable("enrollmentId") Enrollment enrollment) {
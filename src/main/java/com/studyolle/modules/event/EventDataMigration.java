@@ -0,0 +1,21 @@
+package com.studyolle.modules.event;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+// 한 번만 실행하는 모임 데이터 보정 작업의 완료 기록. 기록이 있으면 시작할 때 건너뛴다.
+@Entity
+@Getter @Setter @EqualsAndHashCode(of = "name")
+public class EventDataMigration {
+
+	@Id
+	private String name;
+
+	private LocalDateTime completedDateTime;
+
+}
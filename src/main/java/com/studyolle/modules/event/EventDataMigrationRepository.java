@@ -0,0 +1,6 @@
+package com.studyolle.modules.event;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EventDataMigrationRepository extends JpaRepository<EventDataMigration, String> {
+}
@@ -1,15 +1,19 @@
 package com.studyolle.modules.event;
 
 import com.studyolle.modules.study.Study;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Transactional(readOnly = true)
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryExtension {
 
-	@EntityGraph(value = "Event.withEnrollments", type = EntityGraph.EntityGraphType.LOAD)
-	List<Event> findByStudyOrderByStartDateTime(Study study);
+	// 모임 목록에는 확정 인원(number_of_accepted_enrollments 컬럼)만 필요하므로 참가 신청 목록을 함께 읽지 않는다.
+	List<Event> findByStudyAndEndDateTimeGreaterThanEqualOrderByStartDateTime(Study study, LocalDateTime now);
+
+	Page<Event> findByStudyAndEndDateTimeBeforeOrderByStartDateTimeDesc(Study study, LocalDateTime now, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.studyolle.modules.event;
+
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public interface EventRepositoryExtension {
+
+	Event lockForUpdate(Event event);
+
+	Event lockForUpdate(Long eventId);
+
+	Event lockForUpdate(Event event, Enrollment enrollment);
+
+}
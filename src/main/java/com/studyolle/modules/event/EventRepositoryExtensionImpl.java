@@ -0,0 +1,49 @@
+package com.studyolle.modules.event;
+
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+
+public class EventRepositoryExtensionImpl extends QuerydslRepositorySupport implements EventRepositoryExtension {
+
+	public EventRepositoryExtensionImpl() {
+		super(Event.class);
+	}
+
+	// 모임 row를 select ... for update로 잠그고 최신 상태로 다시 읽는다. 같은 모임의 참가 신청 변경은 커밋할 때까지 차례로 처리된다.
+	// 컨트롤러가 트랜잭션 밖에서 미리 읽어 둔 모임은 잠그기 전 상태일 수 있으므로 find 대신 refresh를 쓴다.
+	@Override
+	public Event lockForUpdate(Event event) {
+		EntityManager entityManager = getEntityManager();
+		if (!entityManager.contains(event)) {
+			return entityManager.find(Event.class, event.getId(), LockModeType.PESSIMISTIC_WRITE);
+		}
+
+		entityManager.flush();
+		entityManager.refresh(event, LockModeType.PESSIMISTIC_WRITE);
+		return event;
+	}
+
+	// 같은 영속성 컨텍스트에서 이미 읽은 모임이면 find는 잠그기만 하고 다시 읽지 않으므로 refresh로 최신 상태를 읽는다.
+	@Override
+	public Event lockForUpdate(Long eventId) {
+		EntityManager entityManager = getEntityManager();
+		entityManager.flush();
+		Event event = entityManager.find(Event.class, eventId, LockModeType.PESSIMISTIC_WRITE);
+		if (event != null) {
+			entityManager.refresh(event);
+		}
+		return event;
+	}
+
+	@Override
+	public Event lockForUpdate(Event event, Enrollment enrollment) {
+		Event locked = lockForUpdate(event);
+		EntityManager entityManager = getEntityManager();
+		if (entityManager.contains(enrollment)) {
+			entityManager.refresh(enrollment);
+		}
+		return locked;
+	}
+}
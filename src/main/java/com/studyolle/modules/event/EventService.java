@@ -5,19 +5,32 @@ import com.studyolle.modules.study.Study;
 import com.studyolle.modules.event.form.EventForm;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class EventService {
 
+	// id 순서가 도착 순서가 되도록 묶음 안의 순서대로 insert 한다. (대기자 확정은 enrolled_at, id 순)
+	private static final String INSERT_ENROLLMENT = "insert into enrollment (id, event_id, account_id, enrolled_at, accepted, attended) " +
+			"values (nextval('hibernate_sequence'), ?, ?, ?, ?, false)";
+
 	private final EventRepository eventRepository;
 	private final ModelMapper modelMapper;
 	private final EnrollmentRepository enrollmentRepository;
+	private final JdbcTemplate jdbcTemplate;
 
 	public Event createEvent(Event event, Study study, Account account) {
 		event.setCreatedBy(account);
@@ -27,40 +40,95 @@ public class EventService {
 	}
 
 	public void updateEvent(Event event, EventForm eventForm) {
+		event = eventRepository.lockForUpdate(event);
 		modelMapper.map(eventForm, event);
-		// TODO 모집 인원을 늘린 선착순 모임의 경우에, 자동으로 추가 인원의 참가 신청을 확정 상태로 변경해야 한다. (나중에 할 일)
+		acceptWaitingEnrollments(event); // 모집 인원을 늘린 선착순 모임이면 늘어난 만큼 대기 중인 신청을 확정한다.
 	}
 
 	public void deleteEvent(Event event) {
 		eventRepository.delete(event);
 	}
 
+	// 참가 신청 변경은 모두 모임 row를 잠근 뒤에 한다. 동시에 신청해도 확정 인원이 모집 인원을 넘지 않는다.
+	// 같은 계정의 중복 신청은 (event_id, account_id) unique 제약이 한 번 더 막는다.
 	public void newEnrollment(Event event, Account account) {
-		if(!enrollmentRepository.existsByEventAndAccount(event, account)) { // 해당 모임에 현재 계정이 참가 신청하지 않은 상태 (=참가 신청 가능)
-			Enrollment enrollment = new Enrollment();
-			enrollment.setEnrolledAt(LocalDateTime.now());
-			enrollment.setAccepted(event.isAbleToAcceptWaitingEnrollment()); // 선착순 모집이고 자리 남은 경우 true
-			enrollment.setAccount(account);
-			event.addEnrollment(enrollment);
-			enrollmentRepository.save(enrollment);
+		newEnrollments(event.getId(), List.of(account));
+	}
+
+	// EnrollmentBatcher가 모은 신청을 도착한 순서대로 한 번에 저장한다.
+	// 모임 잠금, 기존 신청 조회, insert batch가 신청 수와 관계없이 묶음마다 한 번씩이다.
+	public void newEnrollments(Long eventId, List<Account> accounts) {
+		Event event = eventRepository.lockForUpdate(eventId);
+		if (event == null) {
+			throw new IllegalArgumentException(eventId + "에 해당하는 모임이 없습니다.");
+		}
+
+		Set<Long> enrolledAccountIds = new HashSet<>(enrollmentRepository.findAccountIdsByEventAndAccountIdIn(
+				event, accounts.stream().map(Account::getId).collect(Collectors.toList())));
+		Timestamp enrolledAt = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> rows = new ArrayList<>(accounts.size());
+		for (Account account : accounts) {
+			if (enrolledAccountIds.add(account.getId())) { // 이미 신청했거나 같은 묶음에서 두 번 신청한 계정은 건너뛴다.
+				rows.add(new Object[]{event.getId(), account.getId(), enrolledAt, event.admitNewEnrollment()});
+			}
+		}
+		if (!rows.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_ENROLLMENT, rows);
 		}
 	}
 
 	public void cancelEnrollment(Event event, Account account) {
+		event = eventRepository.lockForUpdate(event);
 		Enrollment enrollment = enrollmentRepository.findByEventAndAccount(event, account);
-		if (!enrollment.isAttended()) {
+		if (enrollment != null && !enrollment.isAttended()) {
 			event.removeEnrollment(enrollment);
 			enrollmentRepository.delete(enrollment);
-			event.acceptNextWaitingEnrollment();
+			acceptWaitingEnrollments(event);
 		}
 	}
 
 	public void acceptEnrollment(Event event, Enrollment enrollment) {
-		event.accept(enrollment);
+		eventRepository.lockForUpdate(event, enrollment).accept(enrollment);
 	}
 
 	public void rejectEnrollment(Event event, Enrollment enrollment) {
-		event.reject(enrollment);
+		eventRepository.lockForUpdate(event, enrollment).reject(enrollment);
+	}
+
+	// 대기 중인 신청을 참가 신청 목록 전체가 아니라 남은 자리 수만큼만 신청 순서대로 읽어서 확정한다.
+	private void acceptWaitingEnrollments(Event event) {
+		int numberToAccept = event.numberOfAcceptableWaitingEnrollments();
+		if (numberToAccept > 0) {
+			event.acceptWaitingEnrollments(enrollmentRepository.findByEventAndAcceptedOrderByEnrolledAtAscIdAsc(
+					event, false, PageRequest.of(0, numberToAccept)));
+		}
+	}
+
+	// 모임을 한 번 잠그고, 요청한 신청을 한 번에 읽어 검사한 뒤, 처리할 수 있는 신청만 update 한 번으로 바꾼다.
+	public List<Long> updateEnrollments(Event event, List<Long> enrollmentIds, EnrollmentAction action) {
+		event = eventRepository.lockForUpdate(event);
+		List<Enrollment> enrollments = enrollmentRepository.findByEventAndIdInOrderByEnrolledAtAscIdAsc(event, enrollmentIds);
+		List<Long> selected = event.selectEnrollmentsFor(action, enrollments);
+		if (selected.isEmpty()) {
+			return selected;
+		}
+
+		// 확정 인원을 바꾼 모임은 update 직전에 flush 된다.
+		switch (action) {
+			case ACCEPT:
+				enrollmentRepository.updateAccepted(selected, true);
+				break;
+			case REJECT:
+				enrollmentRepository.updateAccepted(selected, false);
+				break;
+			case CHECKIN:
+				enrollmentRepository.updateAttended(selected, true);
+				break;
+			case CANCEL_CHECKIN:
+				enrollmentRepository.updateAttended(selected, false);
+				break;
+		}
+		return selected;
 	}
 
 	public void checkInEnrollment(Enrollment enrollment) {
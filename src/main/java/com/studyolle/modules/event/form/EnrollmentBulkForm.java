@@ -0,0 +1,22 @@
+package com.studyolle.modules.event.form;
+
+import com.studyolle.modules.event.EnrollmentAction;
+import lombok.Data;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class EnrollmentBulkForm {
+
+	@NotEmpty
+	@Size(max = 1000)
+	private List<Long> enrollmentIds = new ArrayList<>();
+
+	@NotNull
+	private EnrollmentAction action;
+
+}
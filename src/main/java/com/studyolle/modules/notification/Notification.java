@@ -10,6 +10,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter @Setter @EqualsAndHashCode(of = "id")
+@Table(indexes = @Index(name = "idx_notification_account_checked_created",
+		columnList = "account_id, checked, created_date_time"))
 public class Notification {
 
 	@Id @GeneratedValue
@@ -3,13 +3,13 @@ package com.studyolle.modules.notification;
 import com.studyolle.modules.account.Account;
 import com.studyolle.modules.account.CurrentAccount;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
 
 @Controller
 @RequiredArgsConstructor
@@ -19,21 +19,21 @@ public class NotificationController {
 
 	private final NotificationService service;
 
+	private final NotificationCountCache notificationCountCache;
+
 	@GetMapping("/notifications")
-	public String getNotifications(@CurrentAccount Account account, Model model) {
-		List<Notification> notifications = repository.findByAccountAndCheckedOrderByCreatedDateTimeDesc(account, false);
-		long numberOfChecked = repository.countByAccountAndChecked(account, true);
-		putCategorizedNotifications(model, notifications, numberOfChecked, notifications.size());
+	public String getNotifications(@CurrentAccount Account account, NotificationCursor cursor, Model model) {
+		Slice<Notification> notifications = repository.findInboxPage(account, false, cursor);
+		putInbox(model, account, false, cursor, notifications);
 		model.addAttribute("isNew", true);
-		service.markAsRead(notifications);
+		service.markAsRead(account, notifications.getContent());
 		return "notification/list";
 	}
 
 	@GetMapping("/notifications/old")
-	public String getOldNotifications(@CurrentAccount Account account, Model model) {
-		List<Notification> notifications = repository.findByAccountAndCheckedOrderByCreatedDateTimeDesc(account, true);
-		long numberOfNotChecked = repository.countByAccountAndChecked(account, false);
-		putCategorizedNotifications(model, notifications, notifications.size(), numberOfNotChecked);
+	public String getOldNotifications(@CurrentAccount Account account, NotificationCursor cursor, Model model) {
+		Slice<Notification> notifications = repository.findInboxPage(account, true, cursor);
+		putInbox(model, account, true, cursor, notifications);
 		model.addAttribute("isNew", false);
 		return "notification/list";
 	}
@@ -41,28 +41,33 @@ public class NotificationController {
 	@DeleteMapping("/notifications")
 	public String deleteNotifications(@CurrentAccount Account account) {
 		repository.deleteByAccountAndChecked(account, true);
+		notificationCountCache.invalidate(account);
 		return "redirect:/notifications";
 	}
 
-	private void putCategorizedNotifications(Model model, List<Notification> notifications,
-	                                         long numberOfChecked, long numberOfNotChecked) {
-		List<Notification> newStudyNotifications = new ArrayList<>();
-		List<Notification> eventEnrollmentNotifications = new ArrayList<>();
-		List<Notification> watchingStudyNotifications = new ArrayList<>();
-		for (var notification : notifications) {
-			switch (notification.getNotificationType()) {
-				case STUDY_CREATED: newStudyNotifications.add(notification); break;
-				case EVENT_ENROLLMENT: eventEnrollmentNotifications.add(notification); break;
-				case STUDY_UPDATED: watchingStudyNotifications.add(notification); break;
-			}
+	private void putInbox(Model model, Account account, boolean checked, NotificationCursor cursor,
+	                      Slice<Notification> notifications) {
+		Map<Boolean, Map<NotificationType, Long>> counts = repository.countByCheckedAndType(account);
+		Map<NotificationType, Long> countsByType = counts.get(checked);
+
+		model.addAttribute("numberOfNotChecked", sum(counts.get(false)));
+		model.addAttribute("numberOfChecked", sum(counts.get(true)));
+		model.addAttribute("numberOfNewStudyNotifications", countsByType.get(NotificationType.STUDY_CREATED));
+		model.addAttribute("numberOfEventEnrollmentNotifications", countsByType.get(NotificationType.EVENT_ENROLLMENT));
+		model.addAttribute("numberOfWatchingStudyNotifications", countsByType.get(NotificationType.STUDY_UPDATED));
+		model.addAttribute("type", cursor.getType());
+		model.addAttribute("size", cursor.getLimitedSize());
+		model.addAttribute("notifications", notifications.getContent());
+		model.addAttribute("hasNext", notifications.hasNext());
+		if (notifications.hasNext()) {
+			Notification last = notifications.getContent().get(notifications.getNumberOfElements() - 1);
+			model.addAttribute("nextCreatedDateTime", last.getCreatedDateTime());
+			model.addAttribute("nextId", last.getId());
 		}
+	}
 
-		model.addAttribute("numberOfNotChecked", numberOfNotChecked);
-		model.addAttribute("numberOfChecked", numberOfChecked);
-		model.addAttribute("notifications", notifications);
-		model.addAttribute("newStudyNotifications", newStudyNotifications);
-		model.addAttribute("eventEnrollmentNotifications", eventEnrollmentNotifications);
-		model.addAttribute("watchingStudyNotifications", watchingStudyNotifications);
+	private long sum(Map<NotificationType, Long> countsByType) {
+		return countsByType.values().stream().mapToLong(Long::longValue).sum();
 	}
 
 }
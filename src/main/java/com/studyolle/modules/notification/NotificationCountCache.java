@@ -0,0 +1,66 @@
+package com.studyolle.modules.notification;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studyolle.modules.account.Account;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationCountCache {
+
+	private static final long MAXIMUM_SIZE = 10_000;
+	private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(5);
+
+	private final NotificationRepository notificationRepository;
+
+	// account id -> 읽지 않은 알림 수. 크기와 TTL을 제한해서 오래된 값은 자연스럽게 다시 조회된다.
+	private final Cache<Long, Long> unreadCounts = Caffeine.newBuilder()
+			.maximumSize(MAXIMUM_SIZE)
+			.expireAfterWrite(EXPIRE_AFTER_WRITE)
+			.build();
+
+	// Account를 조회하지 않고 id로만 센다. 모든 화면의 알림 표시에서 사용한다.
+	public long getUnreadCount(Long accountId) {
+		return unreadCounts.get(accountId, id -> notificationRepository.countByAccountIdAndChecked(id, false));
+	}
+
+	// 캐시에 올라가 있는 계정만 증가시킨다. 없는 계정은 다음 조회 때 DB에서 읽는다.
+	// 알림마다 콜백을 등록하지 않도록 모아서 받은 id를 커밋 이후 한 번에 반영한다. 같은 id가 여러 번 오면 그만큼 증가한다.
+	public void incrementAll(Collection<Long> accountIds) {
+		if (accountIds.isEmpty()) {
+			return;
+		}
+
+		List<Long> ids = new ArrayList<>(accountIds);
+		afterCommit(() -> ids.forEach(accountId -> unreadCounts.asMap().computeIfPresent(accountId, (id, count) -> count + 1)));
+	}
+
+	public void invalidate(Account account) {
+		Long accountId = account.getId();
+		afterCommit(() -> unreadCounts.invalidate(accountId));
+	}
+
+	// 커밋 전에 캐시를 바꾸면 다른 요청이 커밋 전 값을 다시 읽어 올 수 있으므로 커밋 이후에 반영한다.
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
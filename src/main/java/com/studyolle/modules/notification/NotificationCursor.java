@@ -0,0 +1,32 @@
+package com.studyolle.modules.notification;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+public class NotificationCursor {
+
+	public static final int DEFAULT_SIZE = 20;
+
+	public static final int MAX_SIZE = 100;
+
+	private NotificationType type;
+
+	// 이전 페이지 마지막 알림의 (createdDateTime, id). 첫 페이지는 비어 있다.
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private LocalDateTime createdDateTime;
+
+	private Long id;
+
+	private int size = DEFAULT_SIZE;
+
+	public boolean isFirstPage() {
+		return createdDateTime == null || id == null;
+	}
+
+	public int getLimitedSize() {
+		return Math.max(1, Math.min(size, MAX_SIZE));
+	}
+}
@@ -1,10 +1,7 @@
 package com.studyolle.modules.notification;
 
-import com.studyolle.modules.account.Account;
-import com.studyolle.modules.account.UserAccount;
+import com.studyolle.modules.account.CurrentAccountProvider;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
@@ -17,15 +14,17 @@ import javax.servlet.http.HttpServletResponse;
 @RequiredArgsConstructor
 public class NotificationInterceptor implements HandlerInterceptor {
 
-	private final NotificationRepository notificationRepository;
+	private final NotificationCountCache notificationCountCache;
+	private final CurrentAccountProvider currentAccountProvider;
 
 	@Override
 	public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
-		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-		if (modelAndView != null && !isRedirectView(modelAndView) && authentication != null && authentication.getPrincipal() instanceof UserAccount) {
-			Account account = ((UserAccount)authentication.getPrincipal()).getAccount();
-			long count = notificationRepository.countByAccountAndChecked(account, false);
-			modelAndView.addObject("hasNotification", count > 0);
+		if (modelAndView != null && !isRedirectView(modelAndView)) {
+			Long accountId = currentAccountProvider.getCurrentAccountId(); // Account는 조회하지 않는다.
+			if (accountId != null) {
+				long count = notificationCountCache.getUnreadCount(accountId);
+				modelAndView.addObject("hasNotification", count > 0);
+			}
 		}
 	}
 
@@ -2,17 +2,48 @@ package com.studyolle.modules.notification;
 
 import com.studyolle.modules.account.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Transactional(readOnly = true)
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
-	long countByAccountAndChecked(Account account, boolean checked);
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryExtension {
+	long countByAccountIdAndChecked(Long accountId, boolean checked);
 
 	@Transactional
-	List<Notification> findByAccountAndCheckedOrderByCreatedDateTimeDesc(Account account, boolean checked);
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("delete from Notification n where n.account = :account and n.checked = :checked")
+	int deleteByAccountAndChecked(@Param("account") Account account, @Param("checked") boolean checked);
 
 	@Transactional
-	void deleteByAccountAndChecked(Account account, boolean checked);
+	@Modifying
+	@Query(value = "delete from notification where id in (" +
+			"select id from notification where checked = true and created_date_time < :before limit :batchSize)",
+			nativeQuery = true)
+	int deleteCheckedCreatedBefore(@Param("before") LocalDateTime before, @Param("batchSize") int batchSize);
+
+	// 읽은 알림이 보관 개수를 넘은 계정. 정리 작업을 실행할 때 한 번만 집계한다.
+	@Query(value = "select account_id from notification where checked = true " +
+			"group by account_id having count(*) > :maxPerAccount order by account_id",
+			nativeQuery = true)
+	List<Long> findAccountIdsOverCheckedLimit(@Param("maxPerAccount") int maxPerAccount);
+
+	// 순위는 주어진 계정의 읽은 알림에 대해서만 매긴다. 테이블 전체를 배치마다 다시 훑지 않는다.
+	@Transactional
+	@Modifying
+	@Query(value = "delete from notification where id in (" +
+			"select id from (select id, row_number() over (partition by account_id order by created_date_time desc, id desc) as rn " +
+			"from notification where checked = true and account_id in (:accountIds)) ranked where rn > :maxPerAccount limit :batchSize)",
+			nativeQuery = true)
+	int deleteCheckedOverLimitPerAccount(@Param("accountIds") List<Long> accountIds, @Param("maxPerAccount") int maxPerAccount,
+	                                     @Param("batchSize") int batchSize);
+
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Notification n set n.checked = true where n.account = :account and n.checked = false and n.id in :ids")
+	int markAsRead(@Param("account") Account account, @Param("ids") List<Long> ids);
 }
@@ -0,0 +1,20 @@
+package com.studyolle.modules.notification;
+
+import com.studyolle.modules.account.Account;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@Transactional(readOnly = true)
+public interface NotificationRepositoryExtension {
+
+	@Transactional
+	void saveAllInBatch(List<Notification> notifications);
+
+	Slice<Notification> findInboxPage(Account account, boolean checked, NotificationCursor cursor);
+
+	Map<Boolean, Map<NotificationType, Long>> countByCheckedAndType(Account account);
+
+}
@@ -0,0 +1,104 @@
+package com.studyolle.modules.notification;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.studyolle.modules.account.Account;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class NotificationRepositoryExtensionImpl extends QuerydslRepositorySupport implements NotificationRepositoryExtension {
+
+	private static final String INSERT_NOTIFICATION = "insert into notification " +
+			"(id, title, link, message, checked, account_id, created_date_time, notification_type) " +
+			"values (nextval('hibernate_sequence'), ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public NotificationRepositoryExtensionImpl(JdbcTemplate jdbcTemplate) {
+		super(Notification.class);
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	// 알림을 한 건씩 save 하지 않고 JDBC batch insert 한 번으로 저장한다. (영속성 컨텍스트에 올라가지 않음)
+	@Override
+	@Transactional
+	public void saveAllInBatch(List<Notification> notifications) {
+		if (notifications.isEmpty()) {
+			return;
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, notifications, notifications.size(), (ps, notification) -> {
+			ps.setString(1, notification.getTitle());
+			ps.setString(2, notification.getLink());
+			ps.setString(3, notification.getMessage());
+			ps.setBoolean(4, notification.isChecked());
+			ps.setLong(5, notification.getAccount().getId());
+			ps.setTimestamp(6, Timestamp.valueOf(notification.getCreatedDateTime()));
+			ps.setString(7, notification.getNotificationType().name());
+		});
+	}
+
+	// (createdDateTime, id) 커서 기반 페이징. 알림이 아무리 많아도 한 페이지 분량만 읽는다.
+	@Override
+	public Slice<Notification> findInboxPage(Account account, boolean checked, NotificationCursor cursor) {
+		QNotification notification = QNotification.notification;
+		BooleanBuilder where = new BooleanBuilder(notification.account.eq(account).and(notification.checked.eq(checked)));
+		if (cursor.getType() != null) {
+			where.and(notification.notificationType.eq(cursor.getType()));
+		}
+		if (!cursor.isFirstPage()) {
+			where.and(notification.createdDateTime.lt(cursor.getCreatedDateTime())
+					.or(notification.createdDateTime.eq(cursor.getCreatedDateTime()).and(notification.id.lt(cursor.getId()))));
+		}
+
+		int size = cursor.getLimitedSize();
+		List<Notification> content = from(notification)
+				.where(where)
+				.orderBy(notification.createdDateTime.desc(), notification.id.desc())
+				.limit(size + 1)
+				.fetch();
+
+		boolean hasNext = content.size() > size;
+		if (hasNext) {
+			content = content.subList(0, size);
+		}
+		return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+	}
+
+	// 읽음 여부 x 알림 타입별 개수를 group by 쿼리 한 번으로 가져온다.
+	@Override
+	public Map<Boolean, Map<NotificationType, Long>> countByCheckedAndType(Account account) {
+		QNotification notification = QNotification.notification;
+		List<Tuple> rows = from(notification)
+				.select(notification.checked, notification.notificationType, notification.count())
+				.where(notification.account.eq(account))
+				.groupBy(notification.checked, notification.notificationType)
+				.fetch();
+
+		Map<Boolean, Map<NotificationType, Long>> counts = new HashMap<>();
+		for (Boolean checked : new Boolean[]{true, false}) {
+			Map<NotificationType, Long> byType = new EnumMap<>(NotificationType.class);
+			for (NotificationType type : NotificationType.values()) {
+				byType.put(type, 0L);
+			}
+			counts.put(checked, byType);
+		}
+		for (Tuple row : rows) {
+			if (row.get(notification.notificationType) == null) {
+				continue;
+			}
+			counts.get(row.get(notification.checked)).put(row.get(notification.notificationType), row.get(notification.count()));
+		}
+		return counts;
+	}
+}
@@ -0,0 +1,74 @@
+package com.studyolle.modules.notification;
+
+import com.studyolle.infra.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+	private static final int ACCOUNTS_PER_BATCH = 100;
+
+	private final NotificationRepository notificationRepository;
+	private final AppProperties.NotificationRetention retention;
+	private final Counter purgedByAge;
+	private final Counter purgedByLimit;
+	private final Timer purgeTimer;
+
+	public NotificationRetentionJob(NotificationRepository notificationRepository, AppProperties appProperties,
+	                                MeterRegistry meterRegistry) {
+		this.notificationRepository = notificationRepository;
+		this.retention = appProperties.getNotificationRetention();
+		this.purgedByAge = meterRegistry.counter("notification.retention.purged", "reason", "age");
+		this.purgedByLimit = meterRegistry.counter("notification.retention.purged", "reason", "limit");
+		this.purgeTimer = meterRegistry.timer("notification.retention.duration");
+	}
+
+	// 읽은 알림 중 보관 기간이 지났거나, 계정별 보관 개수를 넘은 알림을 지운다.
+	// delete 쿼리 한 번이 batchSize 만큼만 지우고 각자 트랜잭션을 가지므로 테이블을 오래 잠그지 않는다.
+	@Scheduled(cron = "${app.notification-retention.cron:0 0 4 * * *}")
+	public void purgeCheckedNotifications() {
+		purgeTimer.record(() -> {
+			LocalDateTime before = LocalDateTime.now().minusDays(retention.getMaxAgeDays());
+			long byAge = deleteInBatches(() -> notificationRepository.deleteCheckedCreatedBefore(before, retention.getBatchSize()));
+			purgedByAge.increment(byAge);
+
+			long byLimit = deleteOverLimitPerAccount();
+			purgedByLimit.increment(byLimit);
+
+			log.info("purged checked notifications. by age: {}, by limit: {}", byAge, byLimit);
+		});
+	}
+
+	// 보관 개수를 넘은 계정을 한 번 집계하고, 계정 몇 개씩 나눠서 그 계정들의 알림만 지운다.
+	private long deleteOverLimitPerAccount() {
+		int maxPerAccount = retention.getMaxCheckedPerAccount();
+		List<Long> accountIds = notificationRepository.findAccountIdsOverCheckedLimit(maxPerAccount);
+		long total = 0;
+		for (int from = 0; from < accountIds.size(); from += ACCOUNTS_PER_BATCH) {
+			List<Long> batch = accountIds.subList(from, Math.min(from + ACCOUNTS_PER_BATCH, accountIds.size()));
+			total += deleteInBatches(() -> notificationRepository.deleteCheckedOverLimitPerAccount(
+					batch, maxPerAccount, retention.getBatchSize()));
+		}
+		return total;
+	}
+
+	private long deleteInBatches(IntSupplier deleteBatch) {
+		long total = 0;
+		int deleted;
+		do {
+			deleted = deleteBatch.getAsInt();
+			total += deleted;
+		} while (deleted >= retention.getBatchSize());
+		return total;
+	}
+}
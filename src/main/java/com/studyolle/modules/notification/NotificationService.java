@@ -1,10 +1,12 @@
 package com.studyolle.modules.notification;
 
+import com.studyolle.modules.account.Account;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -12,9 +14,17 @@ import java.util.List;
 public class NotificationService {
 
 	private final NotificationRepository notificationRepository;
+	private final NotificationCountCache notificationCountCache;
 
-	public void markAsRead(List<Notification> notifications) {
-		notifications.forEach(n -> n.setChecked(true));
-		notificationRepository.saveAll(notifications);
+	// 화면에 보여준 페이지의 알림만 한 번의 update 쿼리로 읽음 처리한다.
+	// 다음 페이지나 다른 타입의 알림, 페이지를 보여준 이후에 생긴 알림은 읽지 않은 상태로 남는다.
+	public void markAsRead(Account account, List<Notification> notifications) {
+		if (notifications.isEmpty()) {
+			return;
+		}
+
+		List<Long> ids = notifications.stream().map(Notification::getId).collect(Collectors.toList());
+		notificationRepository.markAsRead(account, ids);
+		notificationCountCache.invalidate(account);
 	}
 }
\ No newline at end of file
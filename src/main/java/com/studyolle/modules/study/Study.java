@@ -1,5 +1,7 @@
 package com.studyolle.modules.study;
 
+import com.studyolle.infra.image.ImageVariant;
+import com.studyolle.infra.image.StoredImage;
 import com.studyolle.modules.account.Account;
 import com.studyolle.modules.account.UserAccount;
 import com.studyolle.modules.tag.Tag;
@@ -13,11 +15,6 @@ import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
-@NamedEntityGraph(name = "Study.withAll", attributeNodes = {
-		@NamedAttributeNode("tags"),
-		@NamedAttributeNode("zones"),
-		@NamedAttributeNode("managers"),
-		@NamedAttributeNode("members")})
 @NamedEntityGraph(name = "Study.withTagsAndManagers", attributeNodes = {
 		@NamedAttributeNode("tags"),
 		@NamedAttributeNode("managers")})
@@ -60,8 +57,8 @@ public class Study {
 	@Basic(fetch = FetchType.EAGER)
 	private String fullDescription;
 
-	@Lob @Basic(fetch = FetchType.EAGER)
-	private String image;
+	@Column(length = 64)
+	private String imageHash; // 배너 이미지의 StoredImage 해시
 
 	@ManyToMany
 	private Set<Tag> tags = new HashSet<>();
@@ -107,7 +104,7 @@ public class Study {
 	}
 
 	public String getImage() {
-		return image != null ? image : "/images/default_banner.png";
+		return imageHash != null ? StoredImage.url(imageHash, ImageVariant.FULL) : "/images/default_banner.png";
 	}
 
 	public void publish() {
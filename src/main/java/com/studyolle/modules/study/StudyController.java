@@ -55,14 +55,14 @@ public class StudyController {
 	@GetMapping("/study/{path}")
 	public String viewStudy(@CurrentAccount Account account, @PathVariable String path, Model model) {
 		model.addAttribute(account);
-		model.addAttribute(studyRepository.findByPath(path));
+		model.addAttribute("study", studyService.getStudyView(path));
 		return "study/view";
 	}
 
 	@GetMapping("/study/{path}/members")
 	public String viewStudyMembers(@CurrentAccount Account account, @PathVariable String path, Model model) {
 		model.addAttribute(account);
-		model.addAttribute(studyRepository.findByPath(path));
+		model.addAttribute("study", studyService.getStudyView(path));
 		return "study/members";
 	}
 
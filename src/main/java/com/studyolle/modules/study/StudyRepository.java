@@ -5,13 +5,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional(readOnly = true)
-public interface StudyRepository extends JpaRepository<Study, Long>{
+public interface StudyRepository extends JpaRepository<Study, Long>, StudyRepositoryExtension {
 
 	boolean existsByPath(String path);
 
-	@EntityGraph(value = "Study.withAll", type = EntityGraph.EntityGraphType.LOAD)
-	Study findByPath(String path);
-
 	@EntityGraph(value = "Study.withTagsAndManagers", type = EntityGraph.EntityGraphType.FETCH)
 	Study findStudyWithTagsByPath(String path);
 
@@ -0,0 +1,10 @@
+package com.studyolle.modules.study;
+
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+public interface StudyRepositoryExtension {
+
+	Study findByPath(String path);
+
+}
@@ -0,0 +1,30 @@
+package com.studyolle.modules.study;
+
+import org.hibernate.Hibernate;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+public class StudyRepositoryExtensionImpl extends QuerydslRepositorySupport implements StudyRepositoryExtension {
+
+	public StudyRepositoryExtensionImpl() {
+		super(Study.class);
+	}
+
+	@Override
+	public Study findByPath(String path) {
+		QStudy study = QStudy.study;
+		Study found = from(study)
+				.where(study.path.eq(path))
+				.fetchOne();
+		if (found == null) {
+			return null;
+		}
+
+		// 컬렉션 네 개를 한 번에 fetch join 하면 tags x zones x managers x members 만큼 row가 곱해진다.
+		// 스터디를 먼저 읽고 컬렉션마다 따로 조회하면 row 수는 각 컬렉션 크기의 합이 된다.
+		Hibernate.initialize(found.getTags());
+		Hibernate.initialize(found.getZones());
+		Hibernate.initialize(found.getManagers());
+		Hibernate.initialize(found.getMembers());
+		return found;
+	}
+}
@@ -1,5 +1,7 @@
 package com.studyolle.modules.study;
 
+import com.studyolle.infra.image.ImageService;
+import com.studyolle.infra.outbox.OutboxEventPublisher;
 import com.studyolle.modules.account.Account;
 import com.studyolle.modules.study.event.StudyCreatedEvent;
 import com.studyolle.modules.study.form.StudyDescriptionForm;
@@ -7,7 +9,6 @@ import com.studyolle.modules.tag.Tag;
 import com.studyolle.modules.zone.Zone;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,12 +22,15 @@ public class StudyService {
 
 	private final StudyRepository repository;
 	private final ModelMapper modelMapper;
-	private final ApplicationEventPublisher eventPublisher;
+	private final OutboxEventPublisher outboxEventPublisher;
+	private final StudyViewCache studyViewCache;
+	private final ImageService imageService;
 
 	public Study createNewStudy(Study study, Account account) {
 		Study newStudy = repository.save(study);
 		newStudy.addManager(account);
-//		eventPublisher.publishEvent(new StudyCreatedEvent(newStudy));
+		studyViewCache.invalidate(newStudy.getPath()); // 삭제된 스터디와 같은 path를 다시 쓰는 경우
+//		outboxEventPublisher.publish(new StudyCreatedEvent(newStudy));
 		return newStudy;
 	}
 
@@ -44,36 +48,53 @@ public class StudyService {
 		return study;
 	}
 
+	public StudyView getStudyView(String path) {
+		StudyView studyView = studyViewCache.getByPath(path);
+		if (studyView == null) {
+			throw new IllegalArgumentException(path + "에 해당하는 스터디가 없습니다.");
+		}
+
+		return studyView;
+	}
+
 	public void updateStudyDescription(Study study, StudyDescriptionForm studyDescriptionForm) {
 		modelMapper.map(studyDescriptionForm, study); // form->study객체에 담는 로직. study는 영속성 상태이므로 commit 시 update study 쿼리 실행 됨
+		studyViewCache.invalidate(study.getPath());
 	}
 
 	public void updateStudyImage(Study study, String image) {
-		study.setImage(image);
+		study.setImageHash(imageService.store(image));
+		studyViewCache.invalidate(study.getPath());
 	}
 
 	public void enableStudyBanner(Study study) {
 		study.setUseBanner(true);
+		studyViewCache.invalidate(study.getPath());
 	}
 
 	public void disableStudyBanner(Study study) {
 		study.setUseBanner(false);
+		studyViewCache.invalidate(study.getPath());
 	}
 	
 	public void addTag(Study study, Tag tag) {
 		study.getTags().add(tag);
+		studyViewCache.invalidate(study.getPath());
 	}
 
 	public void removeTag(Study study, Tag tag) {
 		study.getTags().remove(tag);
+		studyViewCache.invalidate(study.getPath());
 	}
 
 	public void addZone(Study study, Zone zone) {
 		study.getZones().add(zone);
+		studyViewCache.invalidate(study.getPath());
 	}
 
 	public void removeZone(Study study, Zone zone) {
 		study.getZones().remove(zone);
+		studyViewCache.invalidate(study.getPath());
 	}
 
 	public Study getStudyToUpdateTag(Account account, String path) {
@@ -111,19 +132,23 @@ public class StudyService {
 
 	public void publish(Study study) {
 		study.publish();
-		this.eventPublisher.publishEvent(new StudyCreatedEvent(study));
+		studyViewCache.invalidate(study.getPath());
+		this.outboxEventPublisher.publish(new StudyCreatedEvent(study)); // 스터디 변경과 같은 트랜잭션으로 outbox에 저장
 	}
 
 	public void close(Study study) {
 		study.close();
+		studyViewCache.invalidate(study.getPath());
 	}
 
 	public void startRecruit(Study study) {
 		study.startRecruit();
+		studyViewCache.invalidate(study.getPath());
 	}
 
 	public void stopRecruit(Study study) {
 		study.stopRecruit();
+		studyViewCache.invalidate(study.getPath());
 	}
 
 	public boolean isValidPath(String newPath) {
@@ -135,7 +160,9 @@ public class StudyService {
 	}
 
 	public void updateStudyPath(Study study, String newPath) {
+		studyViewCache.invalidate(study.getPath());
 		study.setPath(newPath);
+		studyViewCache.invalidate(newPath);
 	}
 
 	public boolean isValidTitle(String newTitle) {
@@ -144,11 +171,13 @@ public class StudyService {
 
 	public void updateStudyTitle(Study study, String newTitle) {
 		study.setTitle(newTitle);
+		studyViewCache.invalidate(study.getPath());
 	}
 
 	public void remove(Study study) {
 		if (study.isRemovable()) {
 			repository.delete(study);
+			studyViewCache.invalidate(study.getPath());
 		} else {
 			throw new IllegalArgumentException("스터디를 삭제할 수 없습니다.");
 		}
@@ -156,10 +185,12 @@ public class StudyService {
 
 	public void addMember(Study study, Account account) {
 		study.addMember(account);
+		studyViewCache.invalidate(study.getPath());
 	}
 
 	public void removeMember(Study study, Account account) {
 		study.removeMember(account);
+		studyViewCache.invalidate(study.getPath());
 	}
 
 	public Study getStudyToEnroll(String path) {
@@ -1,7 +1,5 @@
 package com.studyolle.modules.study;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studyolle.modules.account.CurrentAccount;
 import com.studyolle.modules.account.Account;
 import com.studyolle.modules.tag.Tag;
@@ -9,9 +7,8 @@ import com.studyolle.modules.zone.Zone;
 import com.studyolle.modules.account.form.ZoneForm;
 import com.studyolle.modules.tag.TagForm;
 import com.studyolle.modules.study.form.StudyDescriptionForm;
-import com.studyolle.modules.tag.TagRepository;
 import com.studyolle.modules.tag.TagService;
-import com.studyolle.modules.zone.ZoneRepository;
+import com.studyolle.modules.zone.ZoneService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
@@ -24,7 +21,6 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import javax.validation.Valid;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 import java.util.stream.Collectors;
 
 
@@ -37,9 +33,7 @@ public class StudySettingController {
 	private final StudyService studyService;
 	private final ModelMapper modelMapper;
 	private final TagService tagService;
-	private final TagRepository tagRepository;
-	private final ZoneRepository zoneRepository;
-	private final ObjectMapper objectMapper;
+	private final ZoneService zoneService;
 
 	@GetMapping("/description")
 	public String viewStudySetting(@CurrentAccount Account account, @PathVariable String path, Model model) {
@@ -80,7 +74,12 @@ public class StudySettingController {
 	public String studyImageSubmit(@CurrentAccount Account account, @PathVariable String path,
 	                               String image, RedirectAttributes attributes) {
 		Study study = studyService.getStudyToUpdate(account, path);
-		studyService.updateStudyImage(study, image);
+		try {
+			studyService.updateStudyImage(study, image);
+		} catch (IllegalArgumentException e) { // 허용하지 않는 형식, 깨진 값, 너무 큰 이미지
+			attributes.addFlashAttribute("message", e.getMessage());
+			return "redirect:/study/" + study.getEncodedPath() + "/settings/banner";
+		}
 		attributes.addFlashAttribute("message", "스터디 이미지를 수정했습니다.");
 		return "redirect:/study/" + study.getEncodedPath() + "/settings/banner";
 	}
@@ -104,7 +103,7 @@ public class StudySettingController {
 	}
 
 	@GetMapping("/tags")
-	public String studyTagForm(@CurrentAccount Account account, @PathVariable String path, Model model) throws JsonProcessingException {
+	public String studyTagForm(@CurrentAccount Account account, @PathVariable String path, Model model) {
 		Study study = studyService.getStudyToUpdate(account, path);
 		model.addAttribute(account);
 		model.addAttribute(study);
@@ -112,13 +111,7 @@ public class StudySettingController {
 		// 해당 study에 존재하는 태그 list 가져오기
 		model.addAttribute("tags", study.getTags().stream()
 				.map(Tag::getTitle).collect(Collectors.toList()));
-
-		// 전체 태그 list 가져오기 (뷰에서 태그 목록 보여줘야 하니까)
-		List<String> allTagTitles = tagRepository.findAll().stream()
-				.map(Tag::getTitle).collect(Collectors.toList());
-
-		// object to json
-		model.addAttribute("whitelist", objectMapper.writeValueAsString(allTagTitles));
+		// 전체 태그 목록은 페이지에 넣지 않고 /tags/whitelist로 필요한 만큼 가져간다.
 
 		return "study/settings/tags";
 	}
@@ -136,7 +129,7 @@ public class StudySettingController {
 	@ResponseBody
 	public ResponseEntity removeTag(@CurrentAccount Account account, @PathVariable String path, @RequestBody TagForm tagForm) {
 		Study study = studyService.getStudyToUpdateTag(account, path);
-		Tag tag = tagRepository.findByTitle(tagForm.getTagTitle());
+		Tag tag = tagService.findByTitle(tagForm.getTagTitle());
 		if(tag == null) {
 			return ResponseEntity.badRequest().build();
 		}
@@ -146,7 +139,7 @@ public class StudySettingController {
 	}
 
 	@GetMapping("/zones")
-	public String studyZoneForm(@CurrentAccount Account account, @PathVariable String path, Model model) throws JsonProcessingException {
+	public String studyZoneForm(@CurrentAccount Account account, @PathVariable String path, Model model) {
 		Study study = studyService.getStudyToUpdate(account, path);
 		model.addAttribute(account);
 		model.addAttribute(study);
@@ -154,13 +147,7 @@ public class StudySettingController {
 		// 해당 study에 존재하는 지역 list 가져오기
 		model.addAttribute("zones", study.getZones().stream()
 				.map(Zone::toString).collect(Collectors.toList()));
-
-		// 전체 지역 list 가져오기
-		List<String> allZones = zoneRepository.findAll().stream()
-				.map(Zone::toString).collect(Collectors.toList());
-
-		// object to json
-		model.addAttribute("whitelist", objectMapper.writeValueAsString(allZones));
+		// 전체 지역 목록은 페이지에 넣지 않고 /zones/whitelist로 필요한 만큼 가져간다.
 
 		return "/study/settings/zones";
 	}
@@ -171,7 +158,7 @@ public class StudySettingController {
 	public ResponseEntity addZone(@CurrentAccount Account account, @PathVariable String path,
 	                              @RequestBody ZoneForm zoneForm) {
 		Study study = studyService.getStudyToUpdateZone(account, path);
-		Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+		Zone zone = zoneService.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
 		if (zone == null) {
 			return ResponseEntity.badRequest().build();
 		}
@@ -185,7 +172,7 @@ public class StudySettingController {
 	public ResponseEntity removeZone(@CurrentAccount Account account, @PathVariable String path,
 	                                 @RequestBody ZoneForm zoneForm) {
 		Study study = studyService.getStudyToUpdateZone(account, path);
-		Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+		Zone zone = zoneService.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
 		if (zone == null) {
 			return ResponseEntity.badRequest().build();
 		}
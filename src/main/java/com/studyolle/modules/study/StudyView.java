@@ -0,0 +1,110 @@
+package com.studyolle.modules.study;
+
+import com.studyolle.modules.account.Account;
+import com.studyolle.modules.account.UserAccount;
+import com.studyolle.modules.tag.Tag;
+import com.studyolle.modules.zone.Zone;
+import lombok.Value;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 스터디 화면(소개, 구성원)에 필요한 값만 복사해 둔 읽기 전용 모델. 엔티티와 달리 영속성 컨텍스트 없이 여러 요청이 공유할 수 있다.
+@Value
+public class StudyView {
+
+	Long id;
+	String path;
+	String title;
+	String shortDescription;
+	String fullDescription;
+	String image;
+	boolean useBanner;
+	boolean published;
+	boolean closed;
+	boolean recruiting;
+	List<TagView> tags;
+	List<ZoneView> zones;
+	List<MemberView> managers;
+	List<MemberView> members;
+	Set<Long> managerIds;
+	Set<Long> memberIds;
+
+	public static StudyView from(Study study) {
+		List<MemberView> managers = study.getManagers().stream().map(MemberView::from).collect(Collectors.toUnmodifiableList());
+		List<MemberView> members = study.getMembers().stream().map(MemberView::from).collect(Collectors.toUnmodifiableList());
+		return new StudyView(
+				study.getId(),
+				study.getPath(),
+				study.getTitle(),
+				study.getShortDescription(),
+				study.getFullDescription(),
+				study.getImage(),
+				study.isUseBanner(),
+				study.isPublished(),
+				study.isClosed(),
+				study.isRecruiting(),
+				study.getTags().stream().map(TagView::from).collect(Collectors.toUnmodifiableList()),
+				study.getZones().stream().map(ZoneView::from).collect(Collectors.toUnmodifiableList()),
+				managers,
+				members,
+				managers.stream().map(MemberView::getId).collect(Collectors.toUnmodifiableSet()),
+				members.stream().map(MemberView::getId).collect(Collectors.toUnmodifiableSet()));
+	}
+
+	public boolean isJoinable(UserAccount userAccount) {
+		return this.published && this.recruiting
+				&& !isMember(userAccount) && !isManager(userAccount);
+	}
+
+	public boolean isMember(UserAccount userAccount) {
+		Long accountId = userAccount.getAccount().getId();
+		return accountId != null && this.memberIds.contains(accountId);
+	}
+
+	public boolean isManager(UserAccount userAccount) {
+		Long accountId = userAccount.getAccount().getId();
+		return accountId != null && this.managerIds.contains(accountId);
+	}
+
+	public String getEncodedPath() {
+		return URLEncoder.encode(this.path, StandardCharsets.UTF_8);
+	}
+
+	@Value
+	public static class TagView {
+
+		String title;
+
+		static TagView from(Tag tag) {
+			return new TagView(tag.getTitle());
+		}
+	}
+
+	@Value
+	public static class ZoneView {
+
+		Long id;
+		String localNameOfCity;
+
+		static ZoneView from(Zone zone) {
+			return new ZoneView(zone.getId(), zone.getLocalNameOfCity());
+		}
+	}
+
+	@Value
+	public static class MemberView {
+
+		Long id;
+		String nickname;
+		String profileThumbnail;
+		String bio;
+
+		static MemberView from(Account account) {
+			return new MemberView(account.getId(), account.getNickname(), account.getProfileThumbnail(), account.getBio());
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.studyolle.modules.study;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+public class StudyViewCache {
+
+	private static final long MAXIMUM_SIZE = 1_000;
+
+	// 구성원의 닉네임, 프로필 변경은 스터디를 거치지 않으므로 TTL로 오래된 값을 정리한다.
+	private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+	private final StudyRepository studyRepository;
+
+	// path -> StudyView. 없는 스터디(null)는 캐시하지 않는다.
+	private final Cache<String, StudyView> views = Caffeine.newBuilder()
+			.maximumSize(MAXIMUM_SIZE)
+			.expireAfterWrite(EXPIRE_AFTER_WRITE)
+			.build();
+
+	public StudyView getByPath(String path) {
+		return views.get(path, key -> {
+			Study study = studyRepository.findByPath(key);
+			return study != null ? StudyView.from(study) : null;
+		});
+	}
+
+	public void invalidate(String path) {
+		afterCommit(() -> views.invalidate(path));
+	}
+
+	// 커밋 전에 지우면 다른 요청이 커밋 전 값을 다시 캐시할 수 있으므로 커밋 이후에 지운다.
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -1,14 +1,18 @@
 package com.studyolle.modules.study.event;
 
 import com.studyolle.modules.study.Study;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class StudyCreatedEvent {
 
-	private Study study;
+	// outbox에 JSON으로 저장되므로 엔티티 대신 id만 가지고 있는다.
+	private Long studyId;
 
 	public StudyCreatedEvent(Study study) {
-		this.study = study;
+		this.studyId = study.getId();
 	}
-}
\ No newline at end of file
+}
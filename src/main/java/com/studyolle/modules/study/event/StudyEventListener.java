@@ -3,10 +3,11 @@ package com.studyolle.modules.study.event;
 import com.studyolle.infra.config.AppProperties;
 import com.studyolle.infra.mail.EmailMessage;
 import com.studyolle.infra.mail.EmailService;
+import com.studyolle.infra.mail.MailTemplateRenderer;
 import com.studyolle.modules.account.Account;
-import com.studyolle.modules.account.AccountPredicates;
 import com.studyolle.modules.account.AccountRepository;
 import com.studyolle.modules.notification.Notification;
+import com.studyolle.modules.notification.NotificationCountCache;
 import com.studyolle.modules.notification.NotificationRepository;
 import com.studyolle.modules.notification.NotificationType;
 import com.studyolle.modules.study.Study;
@@ -14,44 +15,62 @@ import com.studyolle.modules.study.StudyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
-@Async
 @Component
 @Transactional
 @RequiredArgsConstructor
 public class StudyEventListener {
 
+	private static final int FAN_OUT_CHUNK_SIZE = 500;
+
 	private final StudyRepository studyRepository;
 	private final AccountRepository accountRepository;
 	private final EmailService emailService;
-	private final TemplateEngine templateEngine;
+	private final MailTemplateRenderer mailTemplateRenderer;
 	private final AppProperties appProperties;
 	private final NotificationRepository notificationRepository;
+	private final NotificationCountCache notificationCountCache;
+	private final EntityManager entityManager;
 
 	@EventListener
 	public void handleStudyCreatedEvent(StudyCreatedEvent studyCreatedEvent) {
-		Study study = studyRepository.findStudyWithTagsAndZonesById(studyCreatedEvent.getStudy().getId());
-		Iterable<Account> accounts = accountRepository.findAll(AccountPredicates.findByTagsAndZones(study.getTags(), study.getZones()));
-		accounts.forEach(account -> {
-			if (account.isStudyCreatedByEmail()) {
-				sendStudyCreatedEmail(study, account);
-			}
+		Study study = studyRepository.findStudyWithTagsAndZonesById(studyCreatedEvent.getStudyId());
 
-			if (account.isStudyCreatedByWeb()) {
-				saveStudyCreatedNotification(study, account);
+		// 대상 계정을 한 번에 모두 읽지 않고 id 순서로 청크 단위로 읽어서 처리한다.
+		Long lastAccountId = 0L;
+		List<Long> notifiedAccountIds = new ArrayList<>();
+		List<Account> accounts;
+		do {
+			accounts = accountRepository.findByTagsAndZonesAfter(study.getTags(), study.getZones(), lastAccountId, FAN_OUT_CHUNK_SIZE);
+			List<Notification> notifications = new ArrayList<>();
+			for (Account account : accounts) {
+				if (account.isStudyCreatedByEmail()) {
+					sendStudyCreatedEmail(study, account);
+				}
+
+				if (account.isStudyCreatedByWeb()) {
+					notifications.add(createStudyCreatedNotification(study, account));
+				}
+				lastAccountId = account.getId();
 			}
-		});
+			notificationRepository.saveAllInBatch(notifications);
+			notifications.forEach(notification -> notifiedAccountIds.add(notification.getAccount().getId()));
+			entityManager.clear(); // 처리한 청크의 계정을 영속성 컨텍스트에서 비워 메모리 사용량을 일정하게 유지
+		} while (accounts.size() == FAN_OUT_CHUNK_SIZE);
+
+		notificationCountCache.incrementAll(notifiedAccountIds);
 	}
 
-	private void saveStudyCreatedNotification(Study study, Account account) {
+	private Notification createStudyCreatedNotification(Study study, Account account) {
 		Notification notification = new Notification();
 		notification.setTitle(study.getTitle());
 		notification.setLink("/study/" + study.getEncodedPath());
@@ -60,17 +79,17 @@ public class StudyEventListener {
 		notification.setMessage(study.getShortDescription());
 		notification.setAccount(account);
 		notification.setNotificationType(NotificationType.STUDY_CREATED);
-		notificationRepository.save(notification);
+		return notification;
 	}
 
 	private void sendStudyCreatedEmail(Study study, Account account) {
-		Context context = new Context();
-		context.setVariable("nickname", account.getNickname());
-		context.setVariable("link", "/study/" + study.getEncodedPath());
-		context.setVariable("linkName", study.getTitle());
-		context.setVariable("message", "새로운 스터디가 생겼습니다");
-		context.setVariable("host", appProperties.getHost());
-		String message = templateEngine.process("mail/simple-link", context);
+		// 같은 스터디의 메일은 닉네임만 다르므로, 나머지는 처음 한 번만 렌더링된다.
+		String message = mailTemplateRenderer.render("mail/simple-link",
+				Map.of("link", "/study/" + study.getEncodedPath(),
+						"linkName", study.getTitle(),
+						"message", "새로운 스터디가 생겼습니다",
+						"host", appProperties.getHost()),
+				Map.of("nickname", account.getNickname()));
 
 		EmailMessage emailMessage = EmailMessage.builder()
 				.subject("스터디올래, '" + study.getTitle() + "' 스터디가 생겼습니다.")
@@ -0,0 +1,42 @@
+package com.studyolle.modules.tag;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@Controller
+@RequiredArgsConstructor
+public class TagController {
+
+	static final int MAX_LIMIT = 100;
+
+	private final TagDictionary tagDictionary;
+
+	// 태그 입력 자동완성 목록. prefix로 시작하는 태그 중 많이 쓰는 순서로 limit개, prefix가 없으면 전체에서 limit개를 준다.
+	// 인덱스 버전을 ETag로 쓰므로 태그나 사용 수가 바뀌기 전까지는 304로 끝난다.
+	@GetMapping("/tags/whitelist")
+	@ResponseBody
+	public ResponseEntity<List<String>> whitelist(@RequestParam(required = false) String prefix,
+	                                              @RequestParam(defaultValue = "20") int limit, WebRequest request) {
+		TagDictionary.Snapshot snapshot = tagDictionary.getSnapshot();
+		String etag = "\"tags-" + snapshot.getVersion() + "\"";
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+
+		String trimmedPrefix = StringUtils.hasText(prefix) ? prefix.trim() : "";
+		List<String> titles = snapshot.findTopByPrefix(trimmedPrefix, Math.max(1, Math.min(limit, MAX_LIMIT)));
+		return ResponseEntity.ok()
+				.eTag(etag)
+				.cacheControl(CacheControl.noCache())
+				.body(titles);
+	}
+}
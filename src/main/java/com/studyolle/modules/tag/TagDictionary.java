@@ -0,0 +1,185 @@
+package com.studyolle.modules.tag;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Collectors;
+
+// 태그 자동완성용 prefix 인덱스. 대소문자 구분 없이 정렬한 제목 배열을 이진 탐색하고, 사용 수가 많은 순서로 k개를 고른다.
+// 시작할 때 만들고, 새 태그와 태그 추가는 findOrCreateNew에서 반영한다.
+// 태그 제거는 따로 반영하지 않으므로 주기적으로 DB에서 다시 만든다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagDictionary {
+
+	private final TagRepository tagRepository;
+
+	private volatile Snapshot snapshot;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${app.tag-index.rebuild-interval-millis:3600000}",
+			initialDelayString = "${app.tag-index.rebuild-interval-millis:3600000}")
+	public void rebuild() {
+		Map<String, Integer> usageByTitle = tagRepository.findAllWithUsage().stream()
+				.collect(Collectors.toMap(TagUsage::getTitle, tagUsage -> (int) tagUsage.getUsage()));
+		synchronized (this) {
+			long version = snapshot != null ? snapshot.getVersion() + 1 : System.currentTimeMillis();
+			snapshot = Snapshot.of(version, usageByTitle);
+		}
+		log.info("tag index rebuilt with {} tags", usageByTitle.size());
+	}
+
+	public Snapshot getSnapshot() {
+		Snapshot current = snapshot;
+		if (current == null) {
+			rebuild();
+			current = snapshot;
+		}
+		return current;
+	}
+
+	// 태그를 계정이나 스터디에 추가할 때마다 호출된다. 없는 태그면 넣고, 사용 수를 하나 올린다.
+	// 롤백된 태그가 들어가지 않도록 커밋 이후에 반영한다.
+	public void recordUsageAfterCommit(String title) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			recordUsage(title);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				recordUsage(title);
+			}
+		});
+	}
+
+	private synchronized void recordUsage(String title) {
+		if (snapshot == null) {
+			return; // 아직 만들지 않았으면 처음 만들 때 DB에서 같이 읽힌다.
+		}
+		snapshot = snapshot.withUsage(title);
+	}
+
+	public static class Snapshot {
+
+		private static final Comparator<String> ORDER = String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder());
+
+		private final long version;
+		private final String[] titles; // ORDER로 정렬
+		private final AtomicIntegerArray usage; // titles와 같은 위치
+
+		private Snapshot(long version, String[] titles, AtomicIntegerArray usage) {
+			this.version = version;
+			this.titles = titles;
+			this.usage = usage;
+		}
+
+		static Snapshot of(long version, Map<String, Integer> usageByTitle) {
+			String[] titles = usageByTitle.keySet().toArray(new String[0]);
+			Arrays.sort(titles, ORDER);
+			AtomicIntegerArray usage = new AtomicIntegerArray(titles.length);
+			for (int i = 0; i < titles.length; i++) {
+				usage.set(i, usageByTitle.get(titles[i]));
+			}
+			return new Snapshot(version, titles, usage);
+		}
+
+		public long getVersion() {
+			return version;
+		}
+
+		public int size() {
+			return titles.length;
+		}
+
+		// 이미 있는 태그면 배열은 그대로 두고 사용 수만 올린다. 새 태그면 정렬 위치에 끼워 넣은 새 배열을 만든다.
+		Snapshot withUsage(String title) {
+			int index = Arrays.binarySearch(titles, title, ORDER);
+			if (index >= 0) {
+				usage.incrementAndGet(index);
+				return new Snapshot(version + 1, titles, usage);
+			}
+
+			int insertAt = -index - 1;
+			String[] newTitles = new String[titles.length + 1];
+			AtomicIntegerArray newUsage = new AtomicIntegerArray(titles.length + 1);
+			for (int i = 0, j = 0; i < newTitles.length; i++) {
+				if (i == insertAt) {
+					newTitles[i] = title;
+					newUsage.set(i, 1);
+				} else {
+					newTitles[i] = titles[j];
+					newUsage.set(i, usage.get(j++));
+				}
+			}
+			return new Snapshot(version + 1, newTitles, newUsage);
+		}
+
+		// prefix(대소문자 구분 없음)로 시작하는 태그 중 사용 수가 많은 k개. 사용 수가 같으면 제목 순서.
+		// 정렬된 배열에서 prefix로 시작하는 태그는 연속되어 있으므로 구간의 양 끝을 이진 탐색으로 찾고,
+		// 구간 안에서는 크기 k인 힙으로 고른다. 비용은 O(log n + m log k) (m은 구간 크기)
+		public List<String> findTopByPrefix(String prefix, int k) {
+			int from = lowerBound(prefix);
+			int to = upperBound(prefix, from);
+
+			Comparator<Integer> rank = Comparator.<Integer>comparingInt(usage::get).reversed()
+					.thenComparing(i -> titles[i], ORDER);
+			PriorityQueue<Integer> top = new PriorityQueue<>(k + 1, rank.reversed());
+			for (int i = from; i < to; i++) {
+				top.offer(i);
+				if (top.size() > k) {
+					top.poll();
+				}
+			}
+
+			List<Integer> indexes = new ArrayList<>(top);
+			indexes.sort(rank);
+			return indexes.stream().map(i -> titles[i]).collect(Collectors.toList());
+		}
+
+		// prefix보다 작지 않은 첫 위치
+		private int lowerBound(String prefix) {
+			int low = 0;
+			int high = titles.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (String.CASE_INSENSITIVE_ORDER.compare(titles[mid], prefix) < 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		// from부터 prefix로 시작하지 않는 첫 위치
+		private int upperBound(String prefix, int from) {
+			int low = from;
+			int high = titles.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (titles[mid].regionMatches(true, 0, prefix, 0, prefix.length())) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+}
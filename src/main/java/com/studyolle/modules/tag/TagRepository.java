@@ -1,10 +1,28 @@
 package com.studyolle.modules.tag;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 
 @Transactional(readOnly = true)
 public interface TagRepository extends JpaRepository<Tag, Long> {
 	Tag findByTitle(String title);
+
+	// 새로 넣었으면 id, 이미 있으면 null. 같은 제목을 동시에 넣으면 나중 트랜잭션은 앞 트랜잭션이 끝날 때까지 기다렸다가 null을 받는다.
+	@Transactional
+	@Query(value = "insert into tag (id, title) values (nextval('hibernate_sequence'), :title) " +
+			"on conflict (title) do nothing returning id",
+			nativeQuery = true)
+	Long insertIfAbsent(@Param("title") String title);
+
+	// 자동완성 순위에 쓰는 태그별 사용 수 (계정 관심 주제 + 스터디 주제)
+	@Query(value = "select t.title as title, coalesce(u.usage, 0) as usage from tag t " +
+			"left join (select tags_id, count(*) as usage from (" +
+			"select tags_id from account_tags union all select tags_id from study_tags) x group by tags_id) u " +
+			"on u.tags_id = t.id",
+			nativeQuery = true)
+	List<TagUsage> findAllWithUsage();
 }
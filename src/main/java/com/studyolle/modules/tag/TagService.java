@@ -1,21 +1,84 @@
 package com.studyolle.modules.tag;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class TagService {
 
+	private static final long MAXIMUM_SIZE = 10_000;
+	private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(30);
+
 	private final TagRepository tagRepository;
+	private final TagDictionary tagDictionary;
+
+	// title -> tag id. 이 서버에서 지운 태그는 바로 빼고, 다른 곳(다른 서버, DB)에서 지운 태그는 TTL이 지나면 다시 조회한다.
+	private final Cache<String, Long> tagIds = Caffeine.newBuilder()
+			.maximumSize(MAXIMUM_SIZE)
+			.expireAfterWrite(EXPIRE_AFTER_WRITE)
+			.build();
 
+	// 캐시에 있으면 DB를 조회하지 않고 참조(프록시)만 돌려준다. 연관관계에 추가하는 데에는 id만 있으면 된다.
+	// 없으면 insert ... on conflict do nothing으로 만들기 때문에, 같은 태그를 동시에 추가해도 unique 제약 조건 위반이 나지 않는다.
 	public Tag findOrCreateNew(String tagTitle) {
+		Long tagId = tagIds.getIfPresent(tagTitle);
+		if (tagId == null) {
+			tagId = tagRepository.insertIfAbsent(tagTitle);
+			if (tagId == null) {
+				tagId = tagRepository.findByTitle(tagTitle).getId(); // 이미 있었거나 다른 트랜잭션이 먼저 만들었다.
+			}
+			cacheAfterCommit(tagTitle, tagId);
+		}
+
+		tagDictionary.recordUsageAfterCommit(tagTitle); // findOrCreateNew는 태그를 추가할 때만 호출된다.
+		return tagRepository.getOne(tagId);
+	}
+
+	@Transactional(readOnly = true)
+	public Tag findByTitle(String tagTitle) {
+		Long tagId = tagIds.getIfPresent(tagTitle);
+		if (tagId != null) {
+			return tagRepository.getOne(tagId);
+		}
+
 		Tag tag = tagRepository.findByTitle(tagTitle);
-		if (tag == null) {
-			tag = tagRepository.save(Tag.builder().title(tagTitle).build());
+		if (tag != null) {
+			cacheAfterCommit(tagTitle, tag.getId());
 		}
 		return tag;
 	}
+
+	public void delete(Tag tag) {
+		String tagTitle = tag.getTitle();
+		tagRepository.delete(tag);
+		afterCommit(() -> tagIds.invalidate(tagTitle));
+	}
+
+	// 롤백된 id를 캐시하지 않도록 커밋 이후에 넣는다.
+	private void cacheAfterCommit(String tagTitle, Long tagId) {
+		afterCommit(() -> tagIds.put(tagTitle, tagId));
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
 }
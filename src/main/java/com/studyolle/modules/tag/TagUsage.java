@@ -0,0 +1,10 @@
+package com.studyolle.modules.tag;
+
+// 태그 제목과 그 태그를 관심 주제로 등록한 계정, 스터디 수
+public interface TagUsage {
+
+	String getTitle();
+
+	long getUsage();
+
+}
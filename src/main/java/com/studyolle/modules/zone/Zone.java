@@ -19,7 +19,7 @@ public class Zone {
 	@Column(nullable = false)
 	private String localNameOfCity;
 
-	@Column(nullable = true)
+	@Column(nullable = false)
 	private String province;
 
 	@Override
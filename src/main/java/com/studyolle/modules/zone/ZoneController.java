@@ -0,0 +1,42 @@
+package com.studyolle.modules.zone;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@Controller
+@RequiredArgsConstructor
+public class ZoneController {
+
+	static final int MAX_LIMIT = 100;
+
+	private final ZoneDictionary zoneDictionary;
+
+	// 지역 입력 자동완성 목록. prefix가 없으면 전체 목록을 준다.
+	@GetMapping("/zones/whitelist")
+	@ResponseBody
+	public ResponseEntity<List<String>> whitelist(@RequestParam(required = false) String prefix,
+	                                              @RequestParam(defaultValue = "20") int limit, WebRequest request) {
+		ZoneDictionary.Snapshot snapshot = zoneDictionary.getSnapshot();
+		String etag = "\"zones-" + snapshot.getVersion() + "\"";
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+
+		List<String> names = StringUtils.hasText(prefix)
+				? snapshot.findByPrefix(prefix.trim(), Math.max(1, Math.min(limit, MAX_LIMIT)))
+				: snapshot.getNames();
+		return ResponseEntity.ok()
+				.eTag(etag)
+				.cacheControl(CacheControl.noCache())
+				.body(names);
+	}
+}
@@ -0,0 +1,25 @@
+package com.studyolle.modules.zone;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+// 마지막으로 적재한 지역 데이터 파일의 체크섬. 파일이 바뀌지 않았으면 시작할 때 적재를 건너뛴다.
+@Entity
+@Getter @Setter @EqualsAndHashCode(of = "resource")
+public class ZoneDataVersion {
+
+	@Id
+	private String resource;
+
+	@Column(nullable = false, length = 64)
+	private String checksum;
+
+	private LocalDateTime loadedDateTime;
+
+}
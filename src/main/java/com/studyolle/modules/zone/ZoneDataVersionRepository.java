@@ -0,0 +1,6 @@
+package com.studyolle.modules.zone;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ZoneDataVersionRepository extends JpaRepository<ZoneDataVersion, String> {
+}
@@ -0,0 +1,88 @@
+package com.studyolle.modules.zone;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 자동완성과 (city, province) 조회에 쓰는 전체 지역 목록. 지역 데이터는 애플리케이션이 시작할 때만 바뀌므로 처음 필요할 때 한 번 읽는다.
+@Component
+@RequiredArgsConstructor
+public class ZoneDictionary {
+
+	private final ZoneRepository zoneRepository;
+
+	private volatile Snapshot snapshot;
+
+	public Snapshot getSnapshot() {
+		Snapshot current = snapshot;
+		if (current == null) {
+			synchronized (this) {
+				current = snapshot;
+				if (current == null) {
+					List<Zone> zones = zoneRepository.findAll().stream()
+							.sorted(Comparator.comparing(Zone::getCity))
+							.collect(Collectors.toList());
+					current = snapshot = new Snapshot(System.currentTimeMillis(), zones);
+				}
+			}
+		}
+		return current;
+	}
+
+	// 지역 데이터를 새로 넣은 뒤에 호출한다.
+	public synchronized void refresh() {
+		snapshot = null;
+	}
+
+	public static class Snapshot {
+
+		private final long version;
+		private final List<Zone> zones;
+		private final List<String> names;
+		private final Map<List<String>, Zone> byCityAndProvince;
+
+		Snapshot(long version, List<Zone> zones) {
+			this.version = version;
+			this.zones = zones;
+			this.names = Collections.unmodifiableList(zones.stream().map(Zone::toString).collect(Collectors.toList()));
+			Map<List<String>, Zone> byCityAndProvince = new HashMap<>();
+			zones.forEach(zone -> byCityAndProvince.put(Arrays.asList(zone.getCity(), zone.getProvince()), zone));
+			this.byCityAndProvince = Collections.unmodifiableMap(byCityAndProvince);
+		}
+
+		public Zone findByCityAndProvince(String city, String province) {
+			return byCityAndProvince.get(Arrays.asList(city, province));
+		}
+
+		public long getVersion() {
+			return version;
+		}
+
+		public List<String> getNames() {
+			return names;
+		}
+
+		// 영문 도시 이름이나 한글 도시 이름이 prefix로 시작하는 지역. 지역 수가 적어서 전체를 훑는다.
+		public List<String> findByPrefix(String prefix, int limit) {
+			List<String> result = new ArrayList<>();
+			for (Zone zone : zones) {
+				if (result.size() >= limit) {
+					break;
+				}
+				if (zone.getCity().regionMatches(true, 0, prefix, 0, prefix.length())
+						|| zone.getLocalNameOfCity().startsWith(prefix)) {
+					result.add(zone.toString());
+				}
+			}
+			return result;
+		}
+	}
+}
@@ -1,35 +1,126 @@
 package com.studyolle.modules.zone;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.annotation.PostConstruct;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @Transactional
-@RequiredArgsConstructor
 public class ZoneService {
 
+	private static final String ZONE_DATA = "zones_kr.csv";
+
+	// 이미 있는 지역(city, province)은 이름만 갱신한다. 계정과 스터디가 참조하고 있으므로 지우고 다시 넣지 않는다.
+	private static final String UPSERT_ZONE = "insert into zone (id, city, local_name_of_city, province) " +
+			"values (nextval('hibernate_sequence'), ?, ?, ?) " +
+			"on conflict (city, province) do update set local_name_of_city = excluded.local_name_of_city";
+
 	private final ZoneRepository zoneRepository;
+	private final ZoneDataVersionRepository zoneDataVersionRepository;
+	private final ZoneDictionary zoneDictionary;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
 
+	public ZoneService(ZoneRepository zoneRepository, ZoneDataVersionRepository zoneDataVersionRepository,
+	                   ZoneDictionary zoneDictionary, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+		this.zoneRepository = zoneRepository;
+		this.zoneDataVersionRepository = zoneDataVersionRepository;
+		this.zoneDictionary = zoneDictionary;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	// jar 안에서도 읽을 수 있도록 classpath에서 스트림으로 읽는다.
+	// 파일 체크섬이 마지막으로 적재한 값과 같으면 PK 조회 한 번으로 끝난다.
 	@PostConstruct
 	public void initZoneData() throws IOException {
-		if(zoneRepository.count() == 0) {
-			Resource resource = new ClassPathResource("zones_kr.csv");
-			List<Zone> zoneList = Files.readAllLines(resource.getFile().toPath(), StandardCharsets.UTF_8).stream()
-					.map(line -> {
-						String[] split = line.split(",");
-						return Zone.builder().city(split[0]).localNameOfCity(split[1]).province(split[2]).build();
-					}).collect(Collectors.toList());
-			zoneRepository.saveAll(zoneList);
+		Resource resource = new ClassPathResource(ZONE_DATA);
+		MessageDigest digest = sha256();
+		List<Object[]> rows = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				digest.update(line.getBytes(StandardCharsets.UTF_8));
+				if (!line.isBlank()) {
+					Object[] row = parseZone(line);
+					if (row == null) {
+						log.warn("skip malformed zone at {}:{} - {}", ZONE_DATA, lineNumber, line);
+						continue;
+					}
+					rows.add(row);
+				}
+			}
+		}
+
+		String checksum = String.format("%064x", new BigInteger(1, digest.digest()));
+		boolean loaded = zoneDataVersionRepository.findById(ZONE_DATA)
+				.map(version -> version.getChecksum().equals(checksum))
+				.orElse(false);
+		if (loaded) {
+			return;
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcTemplate.batchUpdate(UPSERT_ZONE, rows);
+
+			ZoneDataVersion version = new ZoneDataVersion();
+			version.setResource(ZONE_DATA);
+			version.setChecksum(checksum);
+			version.setLoadedDateTime(LocalDateTime.now());
+			zoneDataVersionRepository.save(version);
+		});
+		zoneDictionary.refresh();
+		log.info("loaded {} zones from {}", rows.size(), ZONE_DATA);
+	}
+
+	// 메모리에 올려 둔 지역에서 찾는다. 시작한 뒤에 따로 넣은 지역만 DB에서 찾는다.
+	@Transactional(readOnly = true)
+	public Zone findByCityAndProvince(String city, String province) {
+		Zone zone = zoneDictionary.getSnapshot().findByCityAndProvince(city, province);
+		return zone != null ? zone : zoneRepository.findByCityAndProvince(city, province);
+	}
+
+	// city,localNameOfCity,province 세 칸이 모두 있어야 한다. province가 비어 있으면 on conflict (city, province)로
+	// 중복을 걸러 낼 수 없으므로(null끼리는 같지 않다) 넣지 않는다.
+	private Object[] parseZone(String line) {
+		String[] split = line.split(",", -1);
+		if (split.length != 3) {
+			return null;
+		}
+		for (int i = 0; i < split.length; i++) {
+			split[i] = split[i].trim();
+			if (split[i].isEmpty()) {
+				return null;
+			}
+		}
+		return split;
+	}
+
+	private MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
 		}
 	}
 }
@@ -0,0 +1,79 @@
+package com.studyolle.infra;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 리포지토리 메서드가 실제로 만드는 SQL의 실행 계획으로 엔티티에 선언한 인덱스를 타는지 확인한다.
+// 테스트 데이터가 적으면 플래너가 seq scan을 고르므로, 인덱스를 쓸 수 있는 쿼리인지만 보기 위해 seq scan을 끈다.
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.studyolle.infra.CapturingStatementInspector")
+public abstract class AbstractQueryPlanTest extends AbstractContainerBaseTest {
+
+	@Autowired protected JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void disableSeqScan() {
+		jdbcTemplate.execute("set local enable_seqscan = off");
+	}
+
+	// 리포지토리 호출이 처음 실행한 select 문
+	protected String capture(Runnable repositoryCall) {
+		CapturingStatementInspector.clear();
+		repositoryCall.run();
+		List<String> statements = CapturingStatementInspector.getStatements();
+		return statements.stream()
+				.filter(sql -> sql.trim().toLowerCase().startsWith("select"))
+				.findFirst()
+				.orElseThrow(() -> new AssertionError("select 문을 실행하지 않았습니다. " + statements));
+	}
+
+	// SQL의 ? 자리에 순서대로 값을 넣고 실행 계획에 인덱스 중 하나라도 나오는지 본다.
+	protected void assertIndexUsed(String sql, List<Object> parameters, String... indexNames) {
+		for (String indexName : indexNames) {
+			Integer count = jdbcTemplate.queryForObject("select count(*) from pg_indexes where indexname = ?", Integer.class, indexName);
+			assertTrue(count != null && count > 0, () -> indexName + " 인덱스가 없습니다.");
+		}
+
+		List<String> plan = jdbcTemplate.queryForList("explain " + bind(sql, parameters), String.class);
+		assertTrue(plan.stream().anyMatch(line -> Arrays.stream(indexNames).anyMatch(line::contains)),
+				() -> Arrays.toString(indexNames) + " 인덱스를 사용하지 않습니다.\n" + sql + "\n" + String.join("\n", plan));
+	}
+
+	private String bind(String sql, List<Object> parameters) {
+		StringBuilder bound = new StringBuilder();
+		int parameterIndex = 0;
+		for (char c : sql.toCharArray()) {
+			if (c == '?') {
+				assertTrue(parameterIndex < parameters.size(), () -> "파라미터가 부족합니다. " + sql);
+				bound.append(literal(parameters.get(parameterIndex++)));
+			} else {
+				bound.append(c);
+			}
+		}
+		assertFalse(parameterIndex < parameters.size(), () -> "파라미터가 남습니다. " + sql);
+		return bound.toString();
+	}
+
+	private String literal(Object value) {
+		if (value instanceof LocalDateTime) {
+			return "'" + Timestamp.valueOf((LocalDateTime) value) + "'";
+		}
+		if (value instanceof String) {
+			return "'" + value + "'";
+		}
+		return String.valueOf(value);
+	}
+}
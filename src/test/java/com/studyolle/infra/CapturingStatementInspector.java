@@ -0,0 +1,26 @@
+package com.studyolle.infra;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 하이버네이트가 실행하는 SQL을 테스트 스레드별로 모아 둔다. (AbstractQueryPlanTest에서 사용)
+public class CapturingStatementInspector implements StatementInspector {
+
+	private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+	@Override
+	public String inspect(String sql) {
+		STATEMENTS.get().add(sql);
+		return sql;
+	}
+
+	public static void clear() {
+		STATEMENTS.get().clear();
+	}
+
+	public static List<String> getStatements() {
+		return new ArrayList<>(STATEMENTS.get());
+	}
+}
@@ -0,0 +1,157 @@
+package com.studyolle.infra.image;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import com.studyolle.infra.MockMvcTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@MockMvcTest
+class ImageControllerTest extends AbstractContainerBaseTest {
+
+	// png 시그니처로 시작하는 내용
+	static final byte[] BYTES = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 1, 2, 3, 4};
+
+	@Autowired MockMvc mockMvc;
+	@Autowired ImageService imageService;
+	@Autowired ImageVariantGenerator imageVariantGenerator;
+
+	String hash;
+
+	@BeforeEach
+	void beforeEach() {
+		hash = imageService.store("data:image/png;base64," + Base64.getEncoder().encodeToString(BYTES));
+	}
+
+	@DisplayName("저장한 이미지 조회 - ETag, Cache-Control")
+	@Test
+	void image() throws Exception {
+		mockMvc.perform(get(StoredImage.url(hash)))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType("image/png"))
+				.andExpect(content().bytes(BYTES))
+				.andExpect(header().string("X-Content-Type-Options", "nosniff"))
+				.andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "\""))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"));
+	}
+
+	@DisplayName("같은 이미지는 같은 해시로 한 번만 저장하고, URL을 다시 넘기면 같은 해시를 반환한다.")
+	@Test
+	void store_same_image() {
+		assertEquals(hash, imageService.store("data:image/png;base64," + Base64.getEncoder().encodeToString(BYTES)));
+		assertEquals(hash, imageService.store(StoredImage.url(hash)));
+		assertEquals(hash, imageService.store(StoredImage.url(hash, ImageVariant.THUMBNAIL)));
+	}
+
+	@DisplayName("저장된 이미지 URL이 아니면(해시 형식이 아니거나 없는 해시) 저장하지 않는다.")
+	@Test
+	void store_rejects_unknown_stored_url() {
+		assertThrows(IllegalArgumentException.class, () -> imageService.store(StoredImage.URL_PREFIX + "junk"));
+		assertThrows(IllegalArgumentException.class, () -> imageService.store(StoredImage.URL_PREFIX + hash + "0"));
+		assertThrows(IllegalArgumentException.class, () -> imageService.store(StoredImage.url("0".repeat(64))));
+		assertThrows(IllegalArgumentException.class, () -> imageService.store("data:image/png;base64,@@@"));
+	}
+
+	@DisplayName("data URL에 적힌 형식과 관계없이 내용으로 형식을 정하고, 허용하지 않는 형식(svg)은 저장하지 않는다.")
+	@Test
+	void store_detects_content_type() throws Exception {
+		String jpegHash = imageService.store("data:image/svg+xml;base64," + Base64.getEncoder().encodeToString(
+				new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 1, 2}));
+		mockMvc.perform(get(StoredImage.url(jpegHash)))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType("image/jpeg"));
+
+		String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\"><script>alert(1)</script></svg>";
+		assertThrows(IllegalArgumentException.class, () -> imageService.store(
+				"data:image/svg+xml;base64," + Base64.getEncoder().encodeToString(svg.getBytes(StandardCharsets.UTF_8))));
+		assertThrows(IllegalArgumentException.class, () -> imageService.store(
+				"data:image/png;base64," + Base64.getEncoder().encodeToString(svg.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	@DisplayName("헤더의 가로 x 세로가 최대 픽셀 수를 넘는 이미지는 디코딩하지 않고 저장하지 않는다.")
+	@Test
+	void store_rejects_too_many_pixels() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB), "png", out);
+		byte[] bomb = out.toByteArray();
+		// IHDR의 width, height(16~23번째 바이트)만 100000 x 100000으로 바꾼다.
+		ByteBuffer.wrap(bomb, 16, 8).putInt(100_000).putInt(100_000);
+
+		assertTrue(imageVariantGenerator.exceedsMaxPixels(bomb));
+		assertThrows(IllegalArgumentException.class, () -> imageService.store(
+				"data:image/png;base64," + Base64.getEncoder().encodeToString(bomb)));
+	}
+
+	@DisplayName("If-None-Match가 같으면 304")
+	@Test
+	void image_not_modified() throws Exception {
+		mockMvc.perform(get(StoredImage.url(hash))
+				.header(HttpHeaders.IF_NONE_MATCH, "\"" + hash + "\""))
+				.andExpect(status().isNotModified());
+	}
+
+	@DisplayName("Range 요청이면 206과 요청한 구간만")
+	@Test
+	void image_range() throws Exception {
+		mockMvc.perform(get(StoredImage.url(hash))
+				.header(HttpHeaders.RANGE, "bytes=2-4"))
+				.andExpect(status().isPartialContent())
+				.andExpect(content().bytes(new byte[]{'N', 'G', '\r'}));
+	}
+
+	@DisplayName("크기별 이미지를 아직 만들지 않았으면 원본을 캐시하지 않도록 내려준다.")
+	@Test
+	void imageVariant_fallback_to_original() throws Exception {
+		mockMvc.perform(get(StoredImage.url(hash, ImageVariant.THUMBNAIL)))
+				.andExpect(status().isOk())
+				.andExpect(content().bytes(BYTES))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+	}
+
+	@DisplayName("크기별 이미지는 최대 크기 안으로 줄여서 저장한다.")
+	@Test
+	void imageVariant() throws Exception {
+		BufferedImage source = new BufferedImage(600, 300, BufferedImage.TYPE_INT_RGB);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(source, "png", out);
+		String sourceHash = imageService.store("data:image/png;base64," + Base64.getEncoder().encodeToString(out.toByteArray()));
+
+		imageVariantGenerator.generate(sourceHash, out.toByteArray());
+
+		StoredImageVariant thumbnail = imageService.getVariant(sourceHash, ImageVariant.THUMBNAIL).orElseThrow();
+		assertEquals(128, thumbnail.getWidth());
+		assertEquals(64, thumbnail.getHeight());
+		StoredImageVariant full = imageService.getVariant(sourceHash, ImageVariant.FULL).orElseThrow();
+		assertEquals(600, full.getWidth());
+
+		mockMvc.perform(get(StoredImage.url(sourceHash, ImageVariant.THUMBNAIL)))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType("image/jpeg"))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"));
+	}
+
+	@DisplayName("없는 이미지는 404")
+	@Test
+	void image_not_found() throws Exception {
+		mockMvc.perform(get(StoredImage.url("unknown")))
+				.andExpect(status().isNotFound());
+	}
+}
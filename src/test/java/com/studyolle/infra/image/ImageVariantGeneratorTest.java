@@ -0,0 +1,94 @@
+package com.studyolle.infra.image;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import com.studyolle.infra.config.AsyncConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 크기별 이미지는 커밋 이후에 만들므로 테스트 트랜잭션을 쓰지 않는다. 저장한 이미지는 테스트마다 지운다.
+@ActiveProfiles("test")
+@SpringBootTest
+class ImageVariantGeneratorTest extends AbstractContainerBaseTest {
+
+	@Autowired ImageService imageService;
+	@Autowired StoredImageRepository storedImageRepository;
+	@Autowired StoredImageVariantRepository storedImageVariantRepository;
+	@Autowired @Qualifier(AsyncConfig.IMAGE_EXECUTOR) ThreadPoolTaskExecutor imageExecutor;
+
+	List<String> hashes = new ArrayList<>();
+
+	@AfterEach
+	void afterEach() {
+		for (String hash : hashes) {
+			for (ImageVariant variant : ImageVariant.values()) {
+				storedImageVariantRepository.findByHashAndVariant(hash, variant).ifPresent(storedImageVariantRepository::delete);
+			}
+			storedImageRepository.deleteById(hash);
+		}
+	}
+
+	@DisplayName("이미지 변환 풀이 가득 차면 업로드한 요청 스레드에서 변환하지 않고 원본만 저장한다.")
+	@Test
+	void store_does_not_resize_on_upload_thread_when_pool_is_full() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		Runnable blocker = () -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		int slots = imageExecutor.getMaxPoolSize() + imageExecutor.getThreadPoolExecutor().getQueue().remainingCapacity();
+		for (int i = 0; i < slots; i++) {
+			imageExecutor.execute(blocker);
+		}
+
+		try {
+			String hash = imageService.store(pngDataUrl(300, 200));
+			hashes.add(hash);
+
+			// 요청 스레드에서 변환했다면 store가 끝났을 때 이미 저장되어 있다.
+			assertTrue(storedImageRepository.existsById(hash));
+			for (ImageVariant variant : ImageVariant.values()) {
+				assertFalse(storedImageVariantRepository.existsByHashAndVariant(hash, variant));
+			}
+		} finally {
+			release.countDown();
+		}
+		assertEquals(0, awaitIdle());
+	}
+
+	// 막아 둔 작업이 모두 끝날 때까지 기다리고 남은 활성 스레드 수를 반환한다.
+	private int awaitIdle() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (imageExecutor.getActiveCount() > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		return imageExecutor.getActiveCount();
+	}
+
+	private String pngDataUrl(int width, int height) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+		return "data:image/png;base64," + Base64.getEncoder().encodeToString(out.toByteArray());
+	}
+}
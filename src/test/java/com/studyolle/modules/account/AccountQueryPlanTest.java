@@ -0,0 +1,30 @@
+package com.studyolle.modules.account;
+
+import com.studyolle.infra.AbstractQueryPlanTest;
+import com.studyolle.modules.tag.Tag;
+import com.studyolle.modules.zone.Zone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Set;
+
+class AccountQueryPlanTest extends AbstractQueryPlanTest {
+
+	@Autowired AccountRepository accountRepository;
+
+	@DisplayName("관심 주제와 활동 지역으로 계정 조회 - 조인 테이블을 인덱스로 찾는다.")
+	@Test
+	void accountByTagsAndZones() {
+		Tag tag = new Tag();
+		tag.setId(1L);
+		Zone zone = new Zone();
+		zone.setId(1L);
+
+		// 파라미터는 모두 숫자(태그 id, 지역 id, 마지막 계정 id, limit)다.
+		String sql = capture(() -> accountRepository.findByTagsAndZonesAfter(Set.of(tag), Set.of(zone), 0L, 10));
+		assertIndexUsed(sql, List.of(1, 1, 0, 10), "idx_account_tags_tags", "account_tags_pkey");
+		assertIndexUsed(sql, List.of(1, 1, 0, 10), "idx_account_zones_zones", "account_zones_pkey");
+	}
+}
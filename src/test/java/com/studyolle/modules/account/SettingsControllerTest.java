@@ -18,6 +18,9 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 import static com.studyolle.modules.account.SettingsController.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -69,7 +72,7 @@ class SettingsControllerTest extends AbstractContainerBaseTest {
 		mockMvc.perform(get(ROOT + SETTINGS + ZONES))
 				.andExpect(view().name(SETTINGS + ZONES))
 				.andExpect(model().attributeExists("account"))
-				.andExpect(model().attributeExists("whitelist"))
+				.andExpect(model().attributeDoesNotExist("whitelist"))
 				.andExpect(model().attributeExists("zones"));
 	}
 
@@ -118,7 +121,7 @@ class SettingsControllerTest extends AbstractContainerBaseTest {
 		mockMvc.perform(get(ROOT + SETTINGS + TAGS))
 				.andExpect(view().name(SETTINGS + TAGS))
 				.andExpect(model().attributeExists("account"))
-				.andExpect(model().attributeExists("whitelist"))
+				.andExpect(model().attributeDoesNotExist("whitelist"))
 				.andExpect(model().attributeExists("tags"));
 	}
 
@@ -247,6 +250,24 @@ class SettingsControllerTest extends AbstractContainerBaseTest {
 		assertNull(yuja.getBio());
 	}
 
+	@WithAccount("yuja")
+	@DisplayName("프로필 수정하기 - 저장할 수 없는 프로필 이미지")
+	@Test
+	void updateProfile_invalid_image() throws Exception {
+		String svg = Base64.getEncoder().encodeToString("<svg xmlns=\"http://www.w3.org/2000/svg\"></svg>".getBytes(StandardCharsets.UTF_8));
+		mockMvc.perform(post(ROOT + SETTINGS + PROFILE)
+				.param("bio", "짧은 소개")
+				.param("profileImage", "data:image/svg+xml;base64," + svg)
+				.with(csrf()))
+				.andExpect(status().isOk())
+				.andExpect(view().name(SETTINGS + PROFILE))
+				.andExpect(model().attributeHasFieldErrors("profile", "profileImage"));
+
+		Account yuja = accountRepository.findByNickname("yuja");
+		assertNull(yuja.getBio());
+		assertNull(yuja.getProfileImageHash());
+	}
+
 	@WithAccount("yuja")
 	@DisplayName("패스워드 수정 폼")
 	@Test
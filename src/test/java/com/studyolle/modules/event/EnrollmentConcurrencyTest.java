@@ -0,0 +1,186 @@
+package com.studyolle.modules.event;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import com.studyolle.modules.account.Account;
+import com.studyolle.modules.account.AccountFactory;
+import com.studyolle.modules.study.Study;
+import com.studyolle.modules.study.StudyFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 여러 요청이 각자 트랜잭션을 커밋하는 상황을 재현해야 하므로 테스트 트랜잭션을 쓰지 않는다.
+// 대신 만든 계정, 스터디, 모임, 참가 신청을 테스트마다 직접 지운다. (다른 테스트의 accountRepository.deleteAll()이 FK에 걸리지 않도록)
+@ActiveProfiles("test")
+@SpringBootTest
+class EnrollmentConcurrencyTest extends AbstractContainerBaseTest {
+
+	static final int LIMIT = 10;
+	static final int ACCOUNTS = 200;
+	static final int REQUESTS_PER_ACCOUNT = 10;
+	static final int THREADS = 32;
+
+	@Autowired EventService eventService;
+	@Autowired EnrollmentBatcher enrollmentBatcher;
+	@Autowired EventRepository eventRepository;
+	@Autowired EnrollmentRepository enrollmentRepository;
+	@Autowired AccountFactory accountFactory;
+	@Autowired StudyFactory studyFactory;
+	@Autowired JdbcTemplate jdbcTemplate;
+
+	List<Long> accountIds = new ArrayList<>();
+	List<Long> studyIds = new ArrayList<>();
+	List<Long> eventIds = new ArrayList<>();
+
+	@AfterEach
+	void afterEach() {
+		for (Long eventId : eventIds) {
+			jdbcTemplate.update("delete from enrollment where event_id = ?", eventId);
+			jdbcTemplate.update("delete from event where id = ?", eventId);
+		}
+		for (Long studyId : studyIds) {
+			jdbcTemplate.update("delete from study_managers where study_id = ?", studyId);
+			jdbcTemplate.update("delete from study_members where study_id = ?", studyId);
+			jdbcTemplate.update("delete from study where id = ?", studyId);
+		}
+		jdbcTemplate.batchUpdate("delete from account where id = ?", accountIds, accountIds.size(),
+				(statement, accountId) -> statement.setLong(1, accountId));
+	}
+
+	@DisplayName("선착순 모임에 동시에 참가 신청해도 모집 인원만큼만 확정되고 계정마다 신청은 하나만 남는다.")
+	@Test
+	void newEnrollment_concurrently() throws Exception {
+		Event event = createEvent("stress");
+		List<Account> accounts = createAccounts("stress");
+
+		runConcurrently(accounts, account -> eventService.newEnrollment(event, account));
+
+		assertEquals(ACCOUNTS, enrollmentRepository.countByEvent(event));
+		assertEquals(LIMIT, enrollmentRepository.countByEventAndAccepted(event, true));
+		assertEquals(LIMIT, eventRepository.findById(event.getId()).orElseThrow().getNumberOfAcceptedEnrollments());
+	}
+
+	@DisplayName("묶음으로 처리해도 모집 인원만큼만 확정되고 먼저 도착한 신청부터 확정된다.")
+	@Test
+	void enrollmentBatcher_concurrently() throws Exception {
+		Event event = createEvent("batch");
+		List<Account> accounts = createAccounts("batch");
+
+		runConcurrently(accounts, account -> enrollmentBatcher.enroll(event.getId(), account));
+
+		assertEquals(ACCOUNTS, enrollmentRepository.countByEvent(event));
+		assertEquals(LIMIT, enrollmentRepository.countByEventAndAccepted(event, true));
+		assertEquals(LIMIT, eventRepository.findById(event.getId()).orElseThrow().getNumberOfAcceptedEnrollments());
+
+		List<Enrollment> waiting = enrollmentRepository.findByEventAndAcceptedOrderByEnrolledAtAscIdAsc(
+				event, false, PageRequest.of(0, ACCOUNTS));
+		List<Enrollment> accepted = enrollmentRepository.findByEventAndAcceptedOrderByEnrolledAtAscIdAsc(
+				event, true, PageRequest.of(0, ACCOUNTS));
+		assertTrue(accepted.get(LIMIT - 1).getId() < waiting.get(0).getId());
+	}
+
+	@DisplayName("묶음 안의 한 계정이 실패해도 같은 묶음의 다른 계정 신청은 저장된다.")
+	@Test
+	void enrollmentBatcher_isolates_failed_account() throws Exception {
+		Event event = createEvent("isolate");
+		List<Account> accounts = createAccounts("isolate");
+		Account missing = new Account();
+		missing.setId(Long.MAX_VALUE); // account 테이블에 없으므로 FK 위반으로 실패한다.
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		Future<Boolean> failed = executor.submit(() -> {
+			start.await();
+			return enrollmentBatcher.enroll(event.getId(), missing);
+		});
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (Account account : accounts) {
+			results.add(executor.submit(() -> {
+				start.await();
+				return enrollmentBatcher.enroll(event.getId(), account);
+			}));
+		}
+
+		start.countDown();
+		for (Future<Boolean> result : results) {
+			assertTrue(result.get());
+		}
+		assertThrows(ExecutionException.class, failed::get);
+		executor.shutdown();
+
+		assertEquals(ACCOUNTS, enrollmentRepository.countByEvent(event));
+		assertEquals(LIMIT, enrollmentRepository.countByEventAndAccepted(event, true));
+	}
+
+	private Event createEvent(String prefix) {
+		Account manager = accountFactory.createAccount(prefix + "-manager");
+		accountIds.add(manager.getId());
+		Study study = studyFactory.createStudy("enrollment-" + prefix, manager);
+		studyIds.add(study.getId());
+		Event event = eventService.createEvent(newEvent(), study, manager);
+		eventIds.add(event.getId());
+		return event;
+	}
+
+	private List<Account> createAccounts(String prefix) {
+		List<Account> accounts = new ArrayList<>();
+		for (int i = 0; i < ACCOUNTS; i++) {
+			Account account = accountFactory.createAccount(prefix + "-" + i);
+			accountIds.add(account.getId());
+			accounts.add(account);
+		}
+		return accounts;
+	}
+
+	// 계정마다 REQUESTS_PER_ACCOUNT번씩 동시에 신청한다.
+	private void runConcurrently(List<Account> accounts, Consumer<Account> enroll) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> results = new ArrayList<>();
+		for (int i = 0; i < REQUESTS_PER_ACCOUNT; i++) {
+			for (Account account : accounts) {
+				results.add(executor.submit(() -> {
+					start.await();
+					enroll.accept(account);
+					return null;
+				}));
+			}
+		}
+
+		start.countDown();
+		for (Future<?> result : results) {
+			result.get();
+		}
+		executor.shutdown();
+	}
+
+	private Event newEvent() {
+		Event event = new Event();
+		event.setTitle("stress-event");
+		event.setEventType(EventType.FCFS);
+		event.setLimitOfEnrollments(LIMIT);
+		event.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+		event.setStartDateTime(LocalDateTime.now().plusDays(1).plusHours(5));
+		event.setEndDateTime(LocalDateTime.now().plusDays(1).plusHours(7));
+		return event;
+	}
+}
@@ -1,25 +1,34 @@
 package com.studyolle.modules.event;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studyolle.infra.AbstractContainerBaseTest;
 import com.studyolle.infra.MockMvcTest;
 import com.studyolle.modules.account.Account;
 import com.studyolle.modules.account.AccountFactory;
 import com.studyolle.modules.account.AccountRepository;
 import com.studyolle.modules.account.WithAccount;
+import com.studyolle.modules.event.form.EnrollmentBulkForm;
 import com.studyolle.modules.study.Study;
 import com.studyolle.modules.study.StudyFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasProperty;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
 @MockMvcTest
 class EventControllerTest extends AbstractContainerBaseTest {
@@ -34,6 +43,7 @@ class EventControllerTest extends AbstractContainerBaseTest {
 	@Autowired EnrollmentRepository enrollmentRepository;
 	@Autowired
 	AccountRepository accountRepository;
+	@Autowired ObjectMapper objectMapper;
 
 	@Test
 	@DisplayName("선착순 모임에 참가 신청 - 자동 수락")
@@ -130,6 +140,144 @@ class EventControllerTest extends AbstractContainerBaseTest {
 		assertNull(enrollmentRepository.findByEventAndAccount(event, keesun));
 	}
 
+	@Test
+	@DisplayName("선착순 모임의 모집 인원을 늘리면 늘어난 만큼 대기자를 신청 순서대로 확정한다.")
+	@WithAccount("keesun")
+	void updateEvent_FCFS_limit_increased_accepts_waiting() throws Exception {
+		Account keesun = accountRepository.findByNickname("keesun");
+		Account whiteship = accountFactory.createAccount("whiteship");
+		Account may = accountFactory.createAccount("may");
+		Account june = accountFactory.createAccount("june");
+		Account july = accountFactory.createAccount("july");
+		Study study = studyFactory.createStudy("test-study", keesun);
+		Event event = createEvent("test-event", EventType.FCFS, 2, study, keesun);
+
+		eventService.newEnrollment(event, whiteship);
+		eventService.newEnrollment(event, may);
+		eventService.newEnrollment(event, june);
+		eventService.newEnrollment(event, july);
+		isNotAccepted(june, event);
+		isNotAccepted(july, event);
+
+		mockMvc.perform(post("/study/" + study.getPath() + "/events/" + event.getId() + "/edit")
+				.param("title", event.getTitle())
+				.param("limitOfEnrollments", "3")
+				.param("endEnrollmentDateTime", event.getEndEnrollmentDateTime().toString())
+				.param("startDateTime", event.getStartDateTime().toString())
+				.param("endDateTime", event.getEndDateTime().toString())
+				.with(csrf()))
+				.andExpect(status().is3xxRedirection())
+				.andExpect(redirectedUrl("/study/" + study.getPath() + "/events/" + event.getId()));
+
+		isAccepted(june, event);
+		isNotAccepted(july, event);
+	}
+
+	@Test
+	@DisplayName("모임 목록 - 새 모임과 지난 모임을 나눠서 보여주고 지난 모임은 페이지로 나눈다.")
+	@WithAccount("keesun")
+	void viewStudyEvents() throws Exception {
+		Account keesun = accountRepository.findByNickname("keesun");
+		Study study = studyFactory.createStudy("test-study", keesun);
+		Event newEvent = createEvent("new-event", EventType.FCFS, 2, study, keesun);
+		for (int i = 0; i < 21; i++) {
+			Event oldEvent = new Event();
+			oldEvent.setEventType(EventType.FCFS);
+			oldEvent.setLimitOfEnrollments(2);
+			oldEvent.setTitle("old-event-" + i);
+			oldEvent.setEndEnrollmentDateTime(LocalDateTime.now().minusDays(3));
+			oldEvent.setStartDateTime(LocalDateTime.now().minusDays(2).plusMinutes(i));
+			oldEvent.setEndDateTime(LocalDateTime.now().minusDays(1));
+			eventService.createEvent(oldEvent, study, keesun);
+		}
+
+		mockMvc.perform(get("/study/" + study.getPath() + "/events").param("page", "1"))
+				.andExpect(status().isOk())
+				.andExpect(view().name("study/events"))
+				.andExpect(model().attribute("newEvents", List.of(newEvent)))
+				.andExpect(model().attribute("oldEvents", hasProperty("totalElements", equalTo(21L))))
+				.andExpect(model().attribute("oldEvents", hasProperty("numberOfElements", equalTo(1))));
+	}
+
+	@Test
+	@DisplayName("관리자 확인 모임의 참가 신청을 한 번에 수락 - 모집 인원까지만 신청 순서대로 수락")
+	@WithAccount("keesun")
+	void updateEnrollments_accept() throws Exception {
+		Account keesun = accountRepository.findByNickname("keesun");
+		Account whiteship = accountFactory.createAccount("whiteship");
+		Account may = accountFactory.createAccount("may");
+		Account june = accountFactory.createAccount("june");
+		Study study = studyFactory.createStudy("test-study", keesun);
+		Event event = createEvent("test-event", EventType.CONFIRMATIVE, 2, study, keesun);
+		eventService.newEnrollment(event, whiteship);
+		eventService.newEnrollment(event, may);
+		eventService.newEnrollment(event, june);
+
+		EnrollmentBulkForm enrollmentBulkForm = new EnrollmentBulkForm();
+		enrollmentBulkForm.setAction(EnrollmentAction.ACCEPT);
+		enrollmentBulkForm.setEnrollmentIds(List.of(
+				enrollmentRepository.findByEventAndAccount(event, whiteship).getId(),
+				enrollmentRepository.findByEventAndAccount(event, may).getId(),
+				enrollmentRepository.findByEventAndAccount(event, june).getId()));
+
+		mockMvc.perform(post("/study/" + study.getPath() + "/events/" + event.getId() + "/enrollments")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(enrollmentBulkForm))
+				.with(csrf()))
+				.andExpect(status().isOk());
+
+		isAccepted(whiteship, event);
+		isAccepted(may, event);
+		isNotAccepted(june, event);
+		assertEquals(2, enrollmentRepository.countByEventAndAccepted(event, true));
+	}
+
+	@Test
+	@DisplayName("스터디 관리자가 아니면 참가 신청을 한 번에 처리할 수 없다.")
+	@WithAccount("keesun")
+	void updateEnrollments_not_manager() throws Exception {
+		Account whiteship = accountFactory.createAccount("whiteship");
+		Study study = studyFactory.createStudy("test-study", whiteship);
+		Event event = createEvent("test-event", EventType.CONFIRMATIVE, 2, study, whiteship);
+		eventService.newEnrollment(event, whiteship);
+
+		EnrollmentBulkForm enrollmentBulkForm = new EnrollmentBulkForm();
+		enrollmentBulkForm.setAction(EnrollmentAction.ACCEPT);
+		enrollmentBulkForm.setEnrollmentIds(List.of(enrollmentRepository.findByEventAndAccount(event, whiteship).getId()));
+
+		mockMvc.perform(post("/study/" + study.getPath() + "/events/" + event.getId() + "/enrollments")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(enrollmentBulkForm))
+				.with(csrf()))
+				.andExpect(status().isForbidden());
+
+		isNotAccepted(whiteship, event);
+	}
+
+	@Test
+	@DisplayName("다른 스터디의 모임 참가 신청은 내 스터디 경로로 한 번에 처리할 수 없다.")
+	@WithAccount("keesun")
+	void updateEnrollments_event_of_other_study() throws Exception {
+		Account keesun = accountRepository.findByNickname("keesun");
+		Account whiteship = accountFactory.createAccount("whiteship");
+		Study myStudy = studyFactory.createStudy("my-study", keesun);
+		Study otherStudy = studyFactory.createStudy("other-study", whiteship);
+		Event event = createEvent("other-event", EventType.CONFIRMATIVE, 2, otherStudy, whiteship);
+		eventService.newEnrollment(event, whiteship);
+
+		EnrollmentBulkForm enrollmentBulkForm = new EnrollmentBulkForm();
+		enrollmentBulkForm.setAction(EnrollmentAction.ACCEPT);
+		enrollmentBulkForm.setEnrollmentIds(List.of(enrollmentRepository.findByEventAndAccount(event, whiteship).getId()));
+
+		mockMvc.perform(post("/study/" + myStudy.getPath() + "/events/" + event.getId() + "/enrollments")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(enrollmentBulkForm))
+				.with(csrf()))
+				.andExpect(status().isBadRequest());
+
+		isNotAccepted(whiteship, event);
+	}
+
 	private void isNotAccepted(Account whiteship, Event event) {
 		assertFalse(enrollmentRepository.findByEventAndAccount(event, whiteship).isAccepted());
 	}
@@ -0,0 +1,60 @@
+package com.studyolle.modules.event;
+
+import com.studyolle.infra.AbstractQueryPlanTest;
+import com.studyolle.modules.account.Account;
+import com.studyolle.modules.study.Study;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+class EventQueryPlanTest extends AbstractQueryPlanTest {
+
+	@Autowired EventRepository eventRepository;
+	@Autowired EnrollmentRepository enrollmentRepository;
+
+	Study study;
+	Event event;
+	Account account;
+
+	@BeforeEach
+	void beforeEach() {
+		study = new Study();
+		study.setId(1L);
+		event = new Event();
+		event.setId(1L);
+		account = new Account();
+		account.setId(1L);
+	}
+
+	@DisplayName("모임 참가 신청 조회 - (event, account) unique 인덱스 사용")
+	@Test
+	void enrollmentByEventAndAccount() {
+		String sql = capture(() -> enrollmentRepository.findByEventAndAccount(event, account));
+		assertIndexUsed(sql, List.of(1, 1), "uk_enrollment_event_account");
+	}
+
+	@DisplayName("대기 중인 참가 신청을 신청 순서대로 조회 - (event, accepted, enrolledAt) 인덱스 사용")
+	@Test
+	void waitingEnrollments() {
+		String sql = capture(() -> enrollmentRepository.findByEventAndAcceptedOrderByEnrolledAtAscIdAsc(
+				event, false, PageRequest.of(0, 10)));
+		assertIndexUsed(sql, List.of(1, false, 10), "idx_enrollment_waiting");
+	}
+
+	@DisplayName("스터디의 새 모임 / 지난 모임 조회 - (study, startDateTime) 또는 (study, endDateTime) 인덱스 사용")
+	@Test
+	void eventsByStudy() {
+		LocalDateTime now = LocalDateTime.now();
+		String newEvents = capture(() -> eventRepository.findByStudyAndEndDateTimeGreaterThanEqualOrderByStartDateTime(study, now));
+		assertIndexUsed(newEvents, List.of(1, now), "idx_event_study_start", "idx_event_study_end");
+
+		String oldEvents = capture(() -> eventRepository.findByStudyAndEndDateTimeBeforeOrderByStartDateTimeDesc(
+				study, now, PageRequest.of(0, 20)));
+		assertIndexUsed(oldEvents, List.of(1, now, 20), "idx_event_study_start", "idx_event_study_end");
+	}
+}
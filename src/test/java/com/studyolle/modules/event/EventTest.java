@@ -0,0 +1,174 @@
+package com.studyolle.modules.event;
+
+import com.studyolle.modules.account.Account;
+import com.studyolle.modules.account.UserAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventTest {
+
+	Event event;
+	Account account;
+	UserAccount userAccount;
+
+	@BeforeEach
+	void beforeEach() {
+		event = new Event();
+		event.setId(1L);
+		event.setEventType(EventType.FCFS);
+		event.setLimitOfEnrollments(2);
+		event.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+		account = createAccount(1L, "yuja");
+		userAccount = new UserAccount(account);
+	}
+
+	@DisplayName("참가 신청하지 않은 계정은 참가 신청 가능")
+	@Test
+	void isEnrollableFor() {
+		event.addEnrollment(createEnrollment(createAccount(2L, "other"), true));
+
+		assertTrue(event.isEnrollableFor(userAccount));
+		assertFalse(event.isDisenrollableFor(userAccount));
+	}
+
+	@DisplayName("id가 없는 계정끼리는 같은 계정으로 보지 않는다.")
+	@Test
+	void isEnrollableFor_account_without_id() {
+		event.addEnrollment(createEnrollment(createAccount(null, "other"), true));
+
+		assertTrue(event.isEnrollableFor(new UserAccount(createAccount(null, "new"))));
+	}
+
+	@DisplayName("참가 신청한 뒤에는 신청 취소만 가능하고, 출석한 뒤에는 둘 다 불가능")
+	@Test
+	void isDisenrollableFor() {
+		Enrollment enrollment = createEnrollment(account, true);
+		event.addEnrollment(enrollment);
+
+		assertFalse(event.isEnrollableFor(userAccount));
+		assertTrue(event.isDisenrollableFor(userAccount));
+
+		enrollment.setAttended(true);
+
+		assertTrue(event.isAttended(userAccount));
+		assertFalse(event.isEnrollableFor(userAccount));
+		assertFalse(event.isDisenrollableFor(userAccount));
+	}
+
+	@DisplayName("참가 신청을 추가하거나 취소하면 확정된 인원과 남은 자리가 바뀐다.")
+	@Test
+	void numberOfRemainSpots() {
+		Enrollment enrollment = createEnrollment(account, true);
+		event.addEnrollment(enrollment);
+		assertEquals(1, event.getNumberOfAcceptedEnrollments());
+		assertEquals(1, event.numberOfRemainSpots());
+
+		event.removeEnrollment(enrollment);
+		assertEquals(0, event.getNumberOfAcceptedEnrollments());
+		assertEquals(2, event.numberOfRemainSpots());
+	}
+
+	@DisplayName("선착순 모임은 자리가 생긴 만큼만 대기 중인 신청을 순서대로 확정한다.")
+	@Test
+	void acceptWaitingEnrollments() {
+		Enrollment first = createEnrollment(account, true);
+		event.addEnrollment(first);
+		event.addEnrollment(createEnrollment(createAccount(2L, "second"), true));
+		Enrollment waiting = createEnrollment(createAccount(3L, "third"), false);
+		Enrollment stillWaiting = createEnrollment(createAccount(4L, "fourth"), false);
+		event.addEnrollment(waiting);
+		event.addEnrollment(stillWaiting);
+		assertEquals(0, event.numberOfAcceptableWaitingEnrollments());
+
+		event.removeEnrollment(first);
+		assertEquals(1, event.numberOfAcceptableWaitingEnrollments());
+		event.acceptWaitingEnrollments(List.of(waiting, stillWaiting));
+
+		assertTrue(waiting.isAccepted());
+		assertFalse(stillWaiting.isAccepted());
+		assertEquals(2, event.getNumberOfAcceptedEnrollments());
+	}
+
+	@DisplayName("확인 모임은 대기 중인 신청을 자동으로 확정하지 않는다.")
+	@Test
+	void acceptWaitingEnrollments_not_for_confirmative_event() {
+		event.setEventType(EventType.CONFIRMATIVE);
+
+		assertEquals(0, event.numberOfAcceptableWaitingEnrollments());
+	}
+
+	@DisplayName("확인 모임은 모임에 속한 신청만 수락하고, 수락하면 확정 인원에 반영한다.")
+	@Test
+	void acceptAndReject() {
+		event.setEventType(EventType.CONFIRMATIVE);
+		Enrollment enrollment = createEnrollment(account, false);
+		enrollment.setId(10L);
+		event.addEnrollment(enrollment);
+
+		Enrollment other = createEnrollment(createAccount(2L, "other"), false);
+		other.setId(11L);
+		assertFalse(event.canAccept(other));
+		assertTrue(event.canAccept(enrollment));
+
+		event.accept(enrollment);
+		assertEquals(1, event.getNumberOfAcceptedEnrollments());
+		assertTrue(event.canReject(enrollment));
+
+		event.reject(enrollment);
+		assertEquals(0, event.getNumberOfAcceptedEnrollments());
+	}
+
+	@DisplayName("여러 신청을 한 번에 수락해도 모집 인원까지만 고르고, 이미 수락한 신청은 고르지 않는다.")
+	@Test
+	void selectEnrollmentsFor_accept() {
+		event.setEventType(EventType.CONFIRMATIVE);
+		List<Enrollment> enrollments = new ArrayList<>();
+		for (long i = 1; i <= 4; i++) {
+			Enrollment enrollment = createEnrollment(createAccount(i, "account" + i), i == 1);
+			enrollment.setId(10 + i);
+			event.addEnrollment(enrollment);
+			enrollments.add(enrollment);
+		}
+
+		assertEquals(List.of(12L), event.selectEnrollmentsFor(EnrollmentAction.ACCEPT, enrollments));
+		assertEquals(2, event.getNumberOfAcceptedEnrollments());
+	}
+
+	@DisplayName("확정된 신청만 체크인할 수 있다.")
+	@Test
+	void selectEnrollmentsFor_checkin() {
+		Enrollment accepted = createEnrollment(account, true);
+		accepted.setId(10L);
+		Enrollment waiting = createEnrollment(createAccount(2L, "waiting"), false);
+		waiting.setId(11L);
+		event.addEnrollment(accepted);
+		event.addEnrollment(waiting);
+
+		assertEquals(List.of(10L), event.selectEnrollmentsFor(EnrollmentAction.CHECKIN, List.of(accepted, waiting)));
+	}
+
+	private Account createAccount(Long id, String nickname) {
+		Account account = new Account();
+		account.setId(id);
+		account.setNickname(nickname);
+		account.setPassword("12345678");
+		return account;
+	}
+
+	private Enrollment createEnrollment(Account account, boolean accepted) {
+		Enrollment enrollment = new Enrollment();
+		enrollment.setAccount(account);
+		enrollment.setAccepted(accepted);
+		enrollment.setEnrolledAt(LocalDateTime.now());
+		return enrollment;
+	}
+}
@@ -0,0 +1,28 @@
+package com.studyolle.modules.notification;
+
+import com.studyolle.infra.AbstractQueryPlanTest;
+import com.studyolle.modules.account.Account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+class NotificationQueryPlanTest extends AbstractQueryPlanTest {
+
+	@Autowired NotificationRepository notificationRepository;
+
+	@DisplayName("읽지 않은 알림 수 / 알림 목록 조회 - (account, checked, createdDateTime) 인덱스 사용")
+	@Test
+	void notificationByAccountAndChecked() {
+		Account account = new Account();
+		account.setId(1L);
+
+		String count = capture(() -> notificationRepository.countByAccountIdAndChecked(account.getId(), false));
+		assertIndexUsed(count, List.of(1, false), "idx_notification_account_checked_created");
+
+		NotificationCursor cursor = new NotificationCursor();
+		String inbox = capture(() -> notificationRepository.findInboxPage(account, false, cursor));
+		assertIndexUsed(inbox, List.of(1, false, cursor.getLimitedSize() + 1), "idx_notification_account_checked_created");
+	}
+}
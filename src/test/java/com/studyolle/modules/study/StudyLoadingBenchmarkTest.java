@@ -0,0 +1,141 @@
+package com.studyolle.modules.study;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import com.studyolle.modules.account.Account;
+import com.studyolle.modules.account.AccountFactory;
+import com.studyolle.modules.tag.Tag;
+import com.studyolle.modules.tag.TagRepository;
+import com.studyolle.modules.zone.Zone;
+import com.studyolle.modules.zone.ZoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Study.withAll 그래프(컬렉션 네 개 fetch join)와 컬렉션별 조회를 전송 row 수와 조회 시간으로 비교한다.
+// 컬렉션별 조회가 실제로 실행한 쿼리 수와 읽은 엔티티 수는 하이버네이트 통계로 센다.
+@Slf4j
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class StudyLoadingBenchmarkTest extends AbstractContainerBaseTest {
+
+	static final String PATH = "benchmark-study";
+	static final int MEMBERS = 200;
+	static final int TAGS = 10;
+	static final int ZONES = 5;
+	static final int WARMUP = 5;
+	static final int ITERATIONS = 30;
+
+	static final String CARTESIAN_FETCH = "select s from Study s " +
+			"left join fetch s.tags left join fetch s.zones " +
+			"left join fetch s.managers left join fetch s.members " +
+			"where s.path = :path";
+
+	@Autowired EntityManager entityManager;
+	@Autowired EntityManagerFactory entityManagerFactory;
+	@Autowired JdbcTemplate jdbcTemplate;
+	@Autowired StudyRepository studyRepository;
+	@Autowired StudyFactory studyFactory;
+	@Autowired AccountFactory accountFactory;
+	@Autowired TagRepository tagRepository;
+	@Autowired ZoneRepository zoneRepository;
+
+	@BeforeEach
+	void beforeEach() {
+		Account manager = accountFactory.createAccount("manager");
+		Study study = studyFactory.createStudy(PATH, manager);
+		for (int i = 0; i < MEMBERS; i++) {
+			study.addMember(accountFactory.createAccount("member" + i));
+		}
+		for (int i = 0; i < TAGS; i++) {
+			study.getTags().add(tagRepository.save(Tag.builder().title("tag" + i).build()));
+		}
+		for (Zone zone : zoneRepository.findAll(PageRequest.of(0, ZONES))) {
+			study.getZones().add(zone);
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@DisplayName("컬렉션별 조회는 fetch join 보다 적은 row를 전송하고 같은 결과를 만든다.")
+	@Test
+	void compareWithCartesianFetch() {
+		Long studyId = studyRepository.findByPath(PATH).getId();
+		entityManager.clear();
+
+		long cartesianRows = jdbcTemplate.queryForObject(
+				"select count(*) from study s " +
+						"left join study_tags t on t.study_id = s.id " +
+						"left join study_zones z on z.study_id = s.id " +
+						"left join study_managers mg on mg.study_id = s.id " +
+						"left join study_members mb on mb.study_id = s.id " +
+						"where s.id = ?", Long.class, studyId);
+
+		// 컬렉션 조회는 row 하나에 엔티티 하나를 읽으므로 읽은 엔티티 수가 전송한 row 수다.
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		touch(studyRepository.findByPath(PATH));
+		long batchedStatements = statistics.getPrepareStatementCount();
+		long batchedRows = statistics.getEntityLoadCount();
+		entityManager.clear();
+
+		long cartesianNanos = measure(() -> entityManager.createQuery(CARTESIAN_FETCH, Study.class)
+				.setParameter("path", PATH)
+				.getResultList()
+				.get(0));
+		long batchedNanos = measure(() -> studyRepository.findByPath(PATH));
+
+		log.info("Study.withAll fetch join: {} rows, {} us/op", cartesianRows, cartesianNanos / 1000);
+		log.info("collection queries     : {} statements, {} rows, {} us/op", batchedStatements, batchedRows, batchedNanos / 1000);
+
+		assertEquals((long) TAGS * ZONES * 1 * MEMBERS, cartesianRows);
+		// 스터디 한 번 + 컬렉션마다 한 번. 컬렉션 크기와 상관없이 일정하다.
+		assertEquals(5, batchedStatements);
+		assertEquals(1 + TAGS + ZONES + 1 + MEMBERS, batchedRows);
+		assertTrue(batchedRows < cartesianRows);
+
+		Study study = studyRepository.findByPath(PATH);
+		assertEquals(TAGS, study.getTags().size());
+		assertEquals(ZONES, study.getZones().size());
+		assertEquals(1, study.getManagers().size());
+		assertEquals(MEMBERS, study.getMembers().size());
+	}
+
+	// 1차 캐시를 비우고 조회해서 매번 DB에서 읽는 시간을 잰다. 평균 나노초를 반환한다.
+	private long measure(Supplier<Study> loader) {
+		for (int i = 0; i < WARMUP; i++) {
+			touch(loader.get());
+			entityManager.clear();
+		}
+
+		long started = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			touch(loader.get());
+			entityManager.clear();
+		}
+		return (System.nanoTime() - started) / ITERATIONS;
+	}
+
+	private void touch(Study study) {
+		study.getTags().size();
+		study.getZones().size();
+		study.getManagers().size();
+		study.getMembers().size();
+	}
+}
@@ -0,0 +1,69 @@
+package com.studyolle.modules.study;
+
+import com.studyolle.modules.account.Account;
+import com.studyolle.modules.account.UserAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StudyViewTest {
+
+	Study study;
+	Account account;
+	UserAccount userAccount;
+
+	@BeforeEach
+	void beforeEach() {
+		study = new Study();
+		study.setPath("test-path");
+		study.setPublished(true);
+		study.setRecruiting(true);
+		account = new Account();
+		account.setId(1L);
+		account.setNickname("yuja");
+		account.setPassword("123");
+		userAccount = new UserAccount(account);
+	}
+
+	@DisplayName("멤버나 관리자가 아니면 가입 가능")
+	@Test
+	void isJoinable() {
+		assertTrue(StudyView.from(study).isJoinable(userAccount));
+	}
+
+	@DisplayName("관리자는 관리자로 보이고 가입할 수 없다.")
+	@Test
+	void isManager() {
+		study.addManager(account);
+		StudyView view = StudyView.from(study);
+
+		assertTrue(view.isManager(userAccount));
+		assertFalse(view.isJoinable(userAccount));
+		assertEquals("yuja", view.getManagers().get(0).getNickname());
+	}
+
+	@DisplayName("멤버는 멤버로 보이고 가입할 수 없다.")
+	@Test
+	void isMember() {
+		study.addMember(account);
+		StudyView view = StudyView.from(study);
+
+		assertTrue(view.isMember(userAccount));
+		assertFalse(view.isJoinable(userAccount));
+	}
+
+	@DisplayName("만든 뒤에 엔티티가 바뀌어도 StudyView는 바뀌지 않는다.")
+	@Test
+	void immutable() {
+		StudyView view = StudyView.from(study);
+		study.addMember(account);
+		study.setTitle("changed");
+
+		assertFalse(view.isMember(userAccount));
+		assertEquals(0, view.getMembers().size());
+	}
+}
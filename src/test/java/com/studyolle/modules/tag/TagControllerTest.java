@@ -0,0 +1,54 @@
+package com.studyolle.modules.tag;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import com.studyolle.infra.MockMvcTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@MockMvcTest
+class TagControllerTest extends AbstractContainerBaseTest {
+
+	@Autowired MockMvc mockMvc;
+	@Autowired TagRepository tagRepository;
+	@Autowired TagDictionary tagDictionary;
+
+	@WithMockUser
+	@DisplayName("태그 자동완성 - prefix로 시작하는 태그")
+	@Test
+	void whitelist_prefix() throws Exception {
+		tagRepository.save(Tag.builder().title("spring").build());
+		tagRepository.save(Tag.builder().title("spring boot").build());
+		tagRepository.save(Tag.builder().title("java").build());
+		tagDictionary.rebuild(); // 테스트 트랜잭션은 커밋하지 않으므로 직접 다시 만든다.
+
+		mockMvc.perform(get("/tags/whitelist").param("prefix", "spr"))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andExpect(jsonPath("$.length()").value(2))
+				.andExpect(jsonPath("$[0]").value("spring"))
+				.andExpect(jsonPath("$[1]").value("spring boot"));
+	}
+
+	@WithMockUser
+	@DisplayName("태그 자동완성 - 목록이 바뀌지 않았으면 304")
+	@Test
+	void whitelist_not_modified() throws Exception {
+		MvcResult result = mockMvc.perform(get("/tags/whitelist"))
+				.andExpect(status().isOk())
+				.andReturn();
+		String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/tags/whitelist").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+	}
+}
@@ -0,0 +1,49 @@
+package com.studyolle.modules.tag;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TagDictionaryTest {
+
+	TagDictionary.Snapshot snapshot = TagDictionary.Snapshot.of(1, Map.of(
+			"java", 5,
+			"Javascript", 10,
+			"JPA", 1,
+			"spring", 3,
+			"spring boot", 7));
+
+	@DisplayName("prefix로 시작하는 태그를 대소문자 구분 없이 사용 수가 많은 순서로 찾는다.")
+	@Test
+	void findTopByPrefix() {
+		assertEquals(List.of("Javascript", "java", "JPA"), snapshot.findTopByPrefix("j", 10));
+		assertEquals(List.of("spring boot", "spring"), snapshot.findTopByPrefix("SPR", 10));
+		assertEquals(List.of(), snapshot.findTopByPrefix("kotlin", 10));
+	}
+
+	@DisplayName("k개까지만 찾고, prefix가 비어 있으면 전체에서 찾는다.")
+	@Test
+	void findTopByPrefix_limit() {
+		assertEquals(List.of("Javascript", "java"), snapshot.findTopByPrefix("ja", 2));
+		assertEquals(List.of("Javascript", "spring boot"), snapshot.findTopByPrefix("", 2));
+	}
+
+	@DisplayName("사용 수를 올리면 순위와 버전이 바뀌고, 새 태그는 정렬 위치에 들어간다.")
+	@Test
+	void withUsage() {
+		TagDictionary.Snapshot updated = snapshot.withUsage("JPA");
+		for (int i = 0; i < 10; i++) {
+			updated = updated.withUsage("JPA");
+		}
+		assertEquals(List.of("JPA", "Javascript", "java"), updated.findTopByPrefix("j", 10));
+		assertEquals(12, updated.getVersion());
+
+		updated = updated.withUsage("jenkins");
+		assertEquals(6, updated.size());
+		assertEquals(List.of("jenkins"), updated.findTopByPrefix("je", 10));
+	}
+}
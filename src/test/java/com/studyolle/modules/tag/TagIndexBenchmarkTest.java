@@ -0,0 +1,108 @@
+package com.studyolle.modules.tag;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 태그 자동완성 인덱스와 같은 결과를 내는 SQL(LIKE 'prefix%' + 사용 수 조인 + 사용 수 순 정렬)의 조회 시간을 비교한다.
+// 사용 수는 임시 테이블에 같은 값을 넣어 둔다. 시간은 환경에 따라 다르므로 로그로만 남기고, 결과가 같은지만 확인한다.
+@Slf4j
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+class TagIndexBenchmarkTest extends AbstractContainerBaseTest {
+
+	static final int TAGS = 20_000;
+	static final int K = 10;
+	static final int INDEX_LOOKUPS = 20_000;
+	static final int QUERY_LOOKUPS = 500;
+
+	// 제목은 모두 소문자이므로 인덱스의 대소문자 무시 정렬과 같은 순서가 되도록 바이트 순서(collate "C")로 정렬한다.
+	static final String RANKED_PREFIX_QUERY = "select t.title from tag t join tag_usage u on u.title = t.title " +
+			"where lower(t.title) like ? order by u.usage desc, t.title collate \"C\" limit ?";
+
+	@Autowired JdbcTemplate jdbcTemplate;
+
+	Random random = new Random(42);
+	Map<String, Integer> usageByTitle = new HashMap<>();
+	List<String> prefixes = new ArrayList<>();
+
+	@BeforeEach
+	void beforeEach() {
+		List<Object[]> rows = new ArrayList<>();
+		while (usageByTitle.size() < TAGS) {
+			String title = randomWord(3 + random.nextInt(8));
+			if (usageByTitle.putIfAbsent(title, random.nextInt(1000)) == null) {
+				rows.add(new Object[]{title});
+			}
+		}
+		jdbcTemplate.batchUpdate("insert into tag (id, title) values (nextval('hibernate_sequence'), ?)", rows);
+
+		// 테스트 트랜잭션이 롤백되면 임시 테이블도 없어진다.
+		jdbcTemplate.execute("create temporary table tag_usage (title varchar(255) primary key, usage int not null)");
+		List<Object[]> usages = new ArrayList<>();
+		usageByTitle.forEach((title, usage) -> usages.add(new Object[]{title, usage}));
+		jdbcTemplate.batchUpdate("insert into tag_usage (title, usage) values (?, ?)", usages);
+		jdbcTemplate.execute("analyze tag");
+		jdbcTemplate.execute("analyze tag_usage");
+
+		for (int i = 0; i < 100; i++) {
+			prefixes.add(randomWord(1 + random.nextInt(3)));
+		}
+	}
+
+	@DisplayName("prefix 인덱스와 사용 수 순 LIKE 쿼리는 같은 태그를 같은 순서로 돌려준다. (조회 시간은 로그)")
+	@Test
+	void compareWithRankedLikeQuery() {
+		TagDictionary.Snapshot snapshot = TagDictionary.Snapshot.of(1, usageByTitle);
+		Function<String, List<String>> indexLookup = prefix -> snapshot.findTopByPrefix(prefix, K);
+		Function<String, List<String>> queryLookup = prefix -> jdbcTemplate.queryForList(RANKED_PREFIX_QUERY, String.class, prefix + "%", K);
+
+		for (String prefix : prefixes) {
+			assertEquals(queryLookup.apply(prefix), indexLookup.apply(prefix), prefix);
+		}
+
+		long indexNanos = measure(INDEX_LOOKUPS, indexLookup::apply);
+		long queryNanos = measure(QUERY_LOOKUPS, queryLookup::apply);
+		log.info("prefix index          : {} ns/op ({} tags)", indexNanos, TAGS);
+		log.info("ranked LIKE 'prefix%' : {} ns/op", queryNanos);
+	}
+
+	// 워밍업 후 평균 나노초
+	private long measure(int lookups, Consumer<String> lookup) {
+		for (int i = 0; i < lookups / 10; i++) {
+			lookup.accept(prefixes.get(i % prefixes.size()));
+		}
+
+		long started = System.nanoTime();
+		for (int i = 0; i < lookups; i++) {
+			lookup.accept(prefixes.get(i % prefixes.size()));
+		}
+		return (System.nanoTime() - started) / lookups;
+	}
+
+	private String randomWord(int length) {
+		StringBuilder word = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			word.append((char) ('a' + random.nextInt(26)));
+		}
+		return word.toString();
+	}
+}
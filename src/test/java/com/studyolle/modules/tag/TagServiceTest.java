@@ -0,0 +1,82 @@
+package com.studyolle.modules.tag;
+
+import com.studyolle.infra.AbstractContainerBaseTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// 여러 요청이 각자 트랜잭션을 커밋하는 상황을 재현해야 하므로 테스트 트랜잭션을 쓰지 않는다.
+@ActiveProfiles("test")
+@SpringBootTest
+class TagServiceTest extends AbstractContainerBaseTest {
+
+	static final String TITLE = "concurrent-tag";
+	static final int THREADS = 8;
+
+	@Autowired TagService tagService;
+	@Autowired TagRepository tagRepository;
+
+	@AfterEach
+	void afterEach() {
+		Tag tag = tagRepository.findByTitle(TITLE);
+		if (tag != null) {
+			tagService.delete(tag); // 캐시에서도 뺀다.
+		}
+	}
+
+	@DisplayName("같은 새 태그를 동시에 만들어도 실패하지 않고 모두 같은 태그를 받는다.")
+	@Test
+	void findOrCreateNew_concurrently() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Long>> results = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			Callable<Long> findOrCreate = () -> {
+				start.await();
+				return tagService.findOrCreateNew(TITLE).getId();
+			};
+			results.add(executor.submit(findOrCreate));
+		}
+
+		start.countDown();
+		Set<Long> ids = new HashSet<>();
+		for (Future<Long> result : results) {
+			ids.add(result.get());
+		}
+		executor.shutdown();
+
+		assertEquals(1, ids.size());
+		assertNotNull(tagRepository.findByTitle(TITLE));
+		assertEquals(ids.iterator().next(), tagService.findOrCreateNew(TITLE).getId());
+	}
+
+	@DisplayName("지운 태그는 캐시에서도 빠져서 다시 만들면 새 id를 받는다.")
+	@Test
+	void delete_evicts_cached_id() {
+		Long oldId = tagService.findOrCreateNew(TITLE).getId();
+		tagService.delete(tagRepository.findByTitle(TITLE));
+
+		assertNull(tagService.findByTitle(TITLE));
+		Long newId = tagService.findOrCreateNew(TITLE).getId();
+		assertNotEquals(oldId, newId);
+		assertEquals(newId, tagRepository.findByTitle(TITLE).getId());
+	}
+}